@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.3.4"
     id("io.spring.dependency-management") version "1.1.6"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.linkedin"
@@ -22,6 +23,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-mail")
     implementation("org.springframework.boot:spring-boot-starter-websocket")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
 
     // Database
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
@@ -32,6 +34,11 @@ dependencies {
     implementation("org.hibernate.search:hibernate-search-backend-lucene:7.2.2.Final")
     implementation("org.jboss.logging:jboss-logging:3.6.1.Final")
 
+    // Caching
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("org.roaringbitmap:RoaringBitmap:1.3.0")
+    implementation("org.springframework.boot:spring-boot-starter-data-redis")
+
     // Security
     implementation("io.jsonwebtoken:jjwt-api:0.12.6")
     implementation("io.jsonwebtoken:jjwt-impl:0.12.6")
@@ -45,6 +52,19 @@ dependencies {
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
+tasks.named<JavaCompile>("compileJmhJava") {
+    // VectorProfileSimilarityScorer, benchmarked against the scalar scorer
+    options.compilerArgs.add("--add-modules=jdk.incubator.vector")
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// Microbenchmarks live in src/jmh/java, run them with ./gradlew jmh
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    jvmArgsAppend.add("--add-modules=jdk.incubator.vector")
+}
@@ -0,0 +1,91 @@
+package com.linkedin.backend.features.feed.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.linkedin.backend.features.feed.dto.PostKey;
+import com.linkedin.backend.features.feed.utils.FeedTimeline;
+import com.linkedin.backend.features.networking.service.SocialGraphIndex;
+import com.linkedin.backend.features.networking.service.SyntheticGraph;
+
+/**
+ * Feed assembly on a synthetic power-law network, with the graph index standing in for the connections query.
+ * <ul>
+ * <li>{@code fanOut}: a post pushed to the cached timelines of its author's connections, as
+ * {@link FeedTimelineService#fanOut} does, skipped for authors over the fan-out limit.</li>
+ * <li>{@code readPage}: the first page of a cached timeline.</li>
+ * </ul>
+ * As in production, at most 10k timelines are cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedAssemblyBenchmark {
+    private static final int SAMPLE_SIZE = 1024;
+    private static final int CACHED_TIMELINES = 10_000;
+
+    @Param({"100000", "1000000"})
+    private int edges;
+
+    private SocialGraphIndex index;
+    private final Map<Long, FeedTimeline> timelines = new HashMap<>();
+    private long[] sampleUsers;
+    private long[] readers;
+    private int authorCursor;
+    private int readerCursor;
+    private long nextPostId;
+
+    @Setup
+    public void setUp() {
+        SyntheticGraph graph = SyntheticGraph.generate(edges, 10, 42);
+        index = graph.toIndex();
+        readers = graph.sampleUsers(CACHED_TIMELINES, 11);
+        for (long reader : readers) {
+            timelines.put(reader, new FeedTimeline(FeedTimelineService.TIMELINE_CAPACITY));
+        }
+        sampleUsers = graph.sampleUsers(SAMPLE_SIZE, 7);
+        for (int i = 0; i < 100_000; i++) {
+            fanOut();
+        }
+    }
+
+    private long nextUser() {
+        return sampleUsers[authorCursor++ & (SAMPLE_SIZE - 1)];
+    }
+
+    @Benchmark
+    public int fanOut() {
+        long[] followerIds = index.neighbours(nextUser());
+        if (followerIds.length > FeedTimelineService.FAN_OUT_LIMIT) {
+            return 0;
+        }
+        PostKey key = new PostKey(++nextPostId, LocalDateTime.now());
+        int pushed = 0;
+        for (long followerId : followerIds) {
+            FeedTimeline timeline = timelines.get(followerId);
+            if (timeline != null) {
+                timeline.push(key);
+                pushed++;
+            }
+        }
+        return pushed;
+    }
+
+    @Benchmark
+    public List<PostKey> readPage() {
+        // floorMod, the cursor wraps to negative values in long runs.
+        return timelines.get(readers[Math.floorMod(readerCursor++, CACHED_TIMELINES)]).page(null, null, 10);
+    }
+}
@@ -0,0 +1,76 @@
+package com.linkedin.backend.features.networking.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.linkedin.backend.features.networking.utils.ProfileFeatureTable;
+
+/**
+ * Graph hot paths on synthetic power-law networks, for a random sample of users.
+ * <ul>
+ * <li>{@code mutualCount}: the mutual connections of two users.</li>
+ * <li>{@code secondDegree}: all users two hops away.</li>
+ * <li>{@code distance}: the bidirectional search up to three hops, as the profile degree uses it.</li>
+ * <li>{@code recommendations}: what getRecommendations does in memory, candidate generation and top-6 ranking.</li>
+ * </ul>
+ * The 10M edges graph needs a few GB of heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SocialGraphBenchmark {
+    private static final int SAMPLE_SIZE = 1024;
+
+    @Param({"100000", "1000000", "10000000"})
+    private int edges;
+
+    private SocialGraphIndex index;
+    private RecommendationPrecomputeService recommendationService;
+    private ProfileFeatureTable profiles;
+    private long[] sampleUsers;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SyntheticGraph graph = SyntheticGraph.generate(edges, 10, 42);
+        index = graph.toIndex();
+        recommendationService = new RecommendationPrecomputeService(index, null, 20, Duration.ofHours(6));
+        profiles = recommendationService.toFeatureTable(graph.profiles(42));
+        sampleUsers = graph.sampleUsers(SAMPLE_SIZE, 7);
+    }
+
+    private long nextUser() {
+        return sampleUsers[cursor++ & (SAMPLE_SIZE - 1)];
+    }
+
+    @Benchmark
+    public int mutualCount() {
+        return index.countMutual(nextUser(), nextUser());
+    }
+
+    @Benchmark
+    public long secondDegree() {
+        return index.secondDegree(nextUser()).getLongCardinality();
+    }
+
+    @Benchmark
+    public int distance() {
+        return index.distance(nextUser(), nextUser(), 3, 50_000);
+    }
+
+    @Benchmark
+    public long[] recommendations() {
+        long userId = nextUser();
+        long[] candidateIds = index.secondDegree(userId, RecommendationPrecomputeService.CANDIDATE_BUDGET);
+        return recommendationService.rank(userId, candidateIds, profiles, 6);
+    }
+}
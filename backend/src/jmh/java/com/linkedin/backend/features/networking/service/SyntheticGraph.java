@@ -0,0 +1,95 @@
+package com.linkedin.backend.features.networking.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.linkedin.backend.features.authentication.dto.UserProfile;
+
+/**
+ * Power-law social graph for benchmarks, grown by preferential attachment: each new user connects to
+ * {@code connectionsPerUser} existing users picked in proportion to their degree, which gives the few
+ * very connected users and long tail of a real network. Seeded, so runs are comparable.
+ */
+public final class SyntheticGraph {
+    private static final int COMPANIES = 500;
+    private static final int POSITIONS = 100;
+    private static final int LOCATIONS = 200;
+
+    private final long users;
+    private final long[] userIds;
+    private final long[] otherUserIds;
+
+    private SyntheticGraph(long users, long[] userIds, long[] otherUserIds) {
+        this.users = users;
+        this.userIds = userIds;
+        this.otherUserIds = otherUserIds;
+    }
+
+    public static SyntheticGraph generate(int edges, int connectionsPerUser, long seed) {
+        Random random = new Random(seed);
+        long[] userIds = new long[edges];
+        long[] otherUserIds = new long[edges];
+        // Every edge adds both ends here, so a uniform pick is a pick proportional to degree.
+        long[] endpoints = new long[2 * edges];
+        int count = 0;
+
+        long user = 1;
+        for (; user <= connectionsPerUser + 1 && count < edges; user++) {
+            for (long other = 1; other < user && count < edges; other++) {
+                userIds[count] = user;
+                otherUserIds[count] = other;
+                endpoints[2 * count] = user;
+                endpoints[2 * count + 1] = other;
+                count++;
+            }
+        }
+        for (; count < edges; user++) {
+            for (int i = 0; i < connectionsPerUser && count < edges; i++) {
+                long other = endpoints[random.nextInt(2 * count)];
+                userIds[count] = user;
+                otherUserIds[count] = other;
+                endpoints[2 * count] = user;
+                endpoints[2 * count + 1] = other;
+                count++;
+            }
+        }
+        return new SyntheticGraph(user - 1, userIds, otherUserIds);
+    }
+
+    public long users() {
+        return users;
+    }
+
+    public int edges() {
+        return userIds.length;
+    }
+
+    public SocialGraphIndex toIndex() {
+        SocialGraphIndex index = new SocialGraphIndex(null);
+        index.loadEdges(userIds, otherUserIds);
+        return index;
+    }
+
+    /**
+     * Complete profiles for every user, with attributes drawn from small vocabularies so that candidates share them.
+     */
+    public List<UserProfile> profiles(long seed) {
+        Random random = new Random(seed);
+        List<UserProfile> profiles = new ArrayList<>((int) users);
+        for (long id = 1; id <= users; id++) {
+            profiles.add(new UserProfile(id, "Company " + random.nextInt(COMPANIES),
+                    "Position " + random.nextInt(POSITIONS), "Location " + random.nextInt(LOCATIONS), true));
+        }
+        return profiles;
+    }
+
+    public long[] sampleUsers(int size, long seed) {
+        Random random = new Random(seed);
+        long[] sample = new long[size];
+        for (int i = 0; i < size; i++) {
+            sample[i] = 1 + (long) (random.nextDouble() * users);
+        }
+        return sample;
+    }
+}
@@ -18,6 +18,7 @@ import com.linkedin.backend.features.feed.model.Post;
 import com.linkedin.backend.features.feed.repository.PostRepository;
 import com.linkedin.backend.features.networking.model.Connection;
 import com.linkedin.backend.features.networking.model.Status;
+import com.linkedin.backend.features.networking.repository.ConnectionCountRepository;
 import com.linkedin.backend.features.networking.repository.ConnectionRepository;
 
 @Configuration
@@ -36,10 +37,10 @@ public class LoadDatabaseConfiguration {
 
     @Bean
     public CommandLineRunner initDatabase(UserRepository userRepository, PostRepository postRepository,
-            ConnectionRepository connectionRepository) {
+            ConnectionRepository connectionRepository, ConnectionCountRepository connectionCountRepository) {
         return args -> {
             List<User> users = createUsers(userRepository);
-            createConnections(connectionRepository, users);
+            createConnections(connectionRepository, connectionCountRepository, users);
             createPosts(postRepository, users);
         };
     }
@@ -114,7 +115,9 @@ public class LoadDatabaseConfiguration {
         return userRepository.saveAll(users);
     }
 
-    private void createConnections(ConnectionRepository connectionRepository, List<User> users) {
+    private void createConnections(ConnectionRepository connectionRepository,
+            ConnectionCountRepository connectionCountRepository, List<User> users) {
+        Set<String> pairs = new HashSet<>();
         for (User user : users) {
             int numConnections = random.nextInt(MAX_CONNECTIONS_PER_USER - MIN_CONNECTIONS_PER_USER + 1)
                     + MIN_CONNECTIONS_PER_USER;
@@ -124,9 +127,15 @@ public class LoadDatabaseConfiguration {
                 User recipient = users.get(random.nextInt(users.size()));
                 if (!recipient.equals(user) && !userConnections.contains(recipient)) {
                     userConnections.add(recipient);
+                    String pair = Math.min(user.getId(), recipient.getId()) + ":" + Math.max(user.getId(), recipient.getId());
+                    if (!pairs.add(pair)) {
+                        continue;
+                    }
                     Connection connection = new Connection(user, recipient);
                     connection.setStatus(Status.ACCEPTED);
                     connectionRepository.save(connection);
+                    connectionCountRepository.add(user.getId(), 1, 0, 0);
+                    connectionCountRepository.add(recipient.getId(), 1, 0, 0);
                 }
             }
         }
@@ -164,6 +173,7 @@ public class LoadDatabaseConfiguration {
 
                 Post post = new Post(content, user);
                 post.setLikes(generateLikes(users, random));
+                post.setLikeCount(post.getLikes().size());
 
                 postRepository.save(post);
             }
@@ -20,6 +20,8 @@ import com.linkedin.backend.dto.Response;
 import com.linkedin.backend.features.authentication.dto.AuthenticationOauthRequestBody;
 import com.linkedin.backend.features.authentication.dto.AuthenticationRequestBody;
 import com.linkedin.backend.features.authentication.dto.AuthenticationResponseBody;
+import com.linkedin.backend.features.authentication.dto.UserPrincipal;
+import com.linkedin.backend.features.authentication.dto.UserView;
 import com.linkedin.backend.features.authentication.model.User;
 import com.linkedin.backend.features.authentication.service.AuthenticationService;
 
@@ -50,20 +52,20 @@ public class AuthenticationController {
     }
 
     @DeleteMapping("/delete")
-    public Response deleteUser(@RequestAttribute("authenticatedUser") User user) {
-        authenticationUserService.deleteUser(user.getId());
+    public Response deleteUser(@RequestAttribute("authenticatedPrincipal") UserPrincipal principal) {
+        authenticationUserService.deleteUser(principal.id());
         return new Response("User deleted successfully.");
     }
 
     @PutMapping("/validate-email-verification-token")
-    public Response verifyEmail(@RequestParam String token, @RequestAttribute("authenticatedUser") User user) {
-        authenticationUserService.validateEmailVerificationToken(token, user.getEmail());
+    public Response verifyEmail(@RequestParam String token, @RequestAttribute("authenticatedPrincipal") UserPrincipal principal) {
+        authenticationUserService.validateEmailVerificationToken(token, principal.email());
         return new Response("Email verified successfully.");
     }
 
     @GetMapping("/send-email-verification-token")
-    public Response sendEmailVerificationToken(@RequestAttribute("authenticatedUser") User user) {
-        authenticationUserService.sendEmailVerificationToken(user.getEmail());
+    public Response sendEmailVerificationToken(@RequestAttribute("authenticatedPrincipal") UserPrincipal principal) {
+        authenticationUserService.sendEmailVerificationToken(principal.email());
         return new Response("Email verification token sent successfully.");
     }
 
@@ -82,7 +84,7 @@ public class AuthenticationController {
 
     @PutMapping("/profile/{id}/info")
     public User updateUserProfile(
-            @RequestAttribute("authenticatedUser") User user,
+            @RequestAttribute("authenticatedPrincipal") UserPrincipal principal,
             @PathVariable Long id,
             @RequestParam(required = false) String firstName,
             @RequestParam(required = false) String lastName,
@@ -91,51 +93,51 @@ public class AuthenticationController {
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String about) {
 
-        if (!user.getId().equals(id)) {
+        if (!principal.id().equals(id)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN,
                     "User does not have permission to update this profile.");
         }
 
         return authenticationUserService.updateUserProfile(
-                user,
+                principal.id(),
                 firstName, lastName, company, position, location, about);
     }
 
     @PutMapping("/profile/{id}/profile-picture")
     public User updateProfilePicture(
-            @RequestAttribute("authenticatedUser") User user,
+            @RequestAttribute("authenticatedPrincipal") UserPrincipal principal,
             @PathVariable Long id,
             @RequestParam(value = "profilePicture", required = false) MultipartFile profilePicture) throws IOException {
 
-        if (!user.getId().equals(id)) {
+        if (!principal.id().equals(id)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN,
                     "User does not have permission to update this profile picture.");
         }
 
-        return authenticationUserService.updateProfilePicture(user, profilePicture);
+        return authenticationUserService.updateProfilePicture(principal.id(), profilePicture);
     }
 
     @PutMapping("/profile/{id}/cover-picture")
     public User updateCoverPicture(
-            @RequestAttribute("authenticatedUser") User user,
+            @RequestAttribute("authenticatedPrincipal") UserPrincipal principal,
             @PathVariable Long id,
             @RequestParam(required = false) MultipartFile coverPicture) throws IOException {
 
-        if (!user.getId().equals(id)) {
+        if (!principal.id().equals(id)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN,
                     "User does not have permission to update this cover picture.");
         }
 
-        return authenticationUserService.updateCoverPicture(user, coverPicture);
+        return authenticationUserService.updateCoverPicture(principal.id(), coverPicture);
     }
 
     @GetMapping("/users/me")
-    public User getUser(@RequestAttribute("authenticatedUser") User user) {
-        return user;
+    public UserView getUser(@RequestAttribute("authenticatedPrincipal") UserPrincipal principal) {
+        return authenticationUserService.getAuthenticatedUserView(principal);
     }
 
     @GetMapping("/users/{id}")
-    public User getUserById(@PathVariable Long id) {
+    public UserView getUserById(@PathVariable Long id) {
         return authenticationUserService.getUserById(id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.linkedin.backend.features.authentication.dto;
+
+import com.linkedin.backend.features.authentication.model.User;
+
+/**
+ * What the authentication filter knows about the caller from the token alone.
+ */
+public record UserPrincipal(Long id, String email, long profileVersion) {
+    public static UserPrincipal of(User user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getProfileVersion());
+    }
+
+    public static UserPrincipal of(UserView user) {
+        return new UserPrincipal(user.id(), user.email(), user.profileVersion());
+    }
+}
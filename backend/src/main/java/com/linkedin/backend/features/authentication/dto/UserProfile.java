@@ -0,0 +1,10 @@
+package com.linkedin.backend.features.authentication.dto;
+
+import com.linkedin.backend.features.authentication.model.User;
+
+public record UserProfile(Long id, String company, String position, String location, Boolean profileComplete) {
+    public static UserProfile of(User user) {
+        return new UserProfile(user.getId(), user.getCompany(), user.getPosition(), user.getLocation(),
+                user.getProfileComplete());
+    }
+}
@@ -0,0 +1,10 @@
+package com.linkedin.backend.features.authentication.dto;
+
+import com.linkedin.backend.features.authentication.model.User;
+
+public record UserSummary(Long id, String firstName, String lastName, String position, String profilePicture) {
+    public static UserSummary of(User user) {
+        return new UserSummary(user.getId(), user.getFirstName(), user.getLastName(), user.getPosition(),
+                user.getProfilePicture());
+    }
+}
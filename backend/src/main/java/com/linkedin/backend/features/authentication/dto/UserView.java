@@ -0,0 +1,18 @@
+package com.linkedin.backend.features.authentication.dto;
+
+import com.linkedin.backend.features.authentication.model.User;
+
+/**
+ * Immutable snapshot of a user's public fields. This, not the entity, is what the user caches hold, so a cached
+ * copy is safe to share between requests and round-trips through Redis unchanged.
+ */
+public record UserView(Long id, String email, Boolean emailVerified, String firstName, String lastName,
+                       String company, String position, String location, Boolean profileComplete,
+                       String profilePicture, String coverPicture, String about, Long profileVersion) {
+    public static UserView of(User user) {
+        return new UserView(user.getId(), user.getEmail(), user.getEmailVerified(), user.getFirstName(),
+                user.getLastName(), user.getCompany(), user.getPosition(), user.getLocation(),
+                user.getProfileComplete(), user.getProfilePicture(), user.getCoverPicture(), user.getAbout(),
+                user.getProfileVersion());
+    }
+}
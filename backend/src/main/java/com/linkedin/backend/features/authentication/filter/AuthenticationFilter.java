@@ -1,12 +1,13 @@
 package com.linkedin.backend.features.authentication.filter;
 
-import com.linkedin.backend.features.authentication.model.User;
+import com.linkedin.backend.features.authentication.dto.UserPrincipal;
 import com.linkedin.backend.features.authentication.service.AuthenticationService;
 import com.linkedin.backend.features.authentication.utils.JsonWebToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpFilter;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.stereotype.Component;
 
@@ -14,8 +15,16 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 
+/**
+ * Authenticates API calls from the token and the caller's cached view, which rejects tokens of deleted users.
+ * Controllers that only need the caller's id take the {@code authenticatedPrincipal} attribute; the
+ * {@code authenticatedUser} entity is loaded on first access.
+ */
 @Component
 public class AuthenticationFilter extends HttpFilter {
+    public static final String AUTHENTICATED_PRINCIPAL = "authenticatedPrincipal";
+    public static final String AUTHENTICATED_USER = "authenticatedUser";
+
     private final List<String> unsecuredEndpoints = Arrays.asList(
             "/api/v1/authentication/login",
             "/api/v1/authentication/register",
@@ -56,19 +65,40 @@ public class AuthenticationFilter extends HttpFilter {
             }
 
             String token = authorization.substring(7);
+            UserPrincipal principal = jsonWebTokenService.parseToken(token);
 
-            if (jsonWebTokenService.isTokenExpired(token)) {
-                throw new ServletException("Invalid token");
+            if (principal.id() == null) {
+                principal = UserPrincipal.of(authenticationService.getUser(principal.email()));
+            } else {
+                // A cache hit in the common case, throws once the account is deleted.
+                authenticationService.getUserById(principal.id());
             }
 
-            String email = jsonWebTokenService.getEmailFromToken(token);
-            User user = authenticationService.getUser(email);
-            request.setAttribute("authenticatedUser", user);
-            chain.doFilter(request, response);
+            request.setAttribute(AUTHENTICATED_PRINCIPAL, principal);
+            chain.doFilter(new AuthenticatedRequest(request, principal), response);
         } catch (Exception e) {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.setContentType("application/json");
             response.getWriter().write("{\"message\": \"Invalid authentication token, or token missing.\"}");
         }
     }
-}
\ No newline at end of file
+
+    private class AuthenticatedRequest extends HttpServletRequestWrapper {
+        private final UserPrincipal principal;
+
+        AuthenticatedRequest(HttpServletRequest request, UserPrincipal principal) {
+            super(request);
+            this.principal = principal;
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            Object value = super.getAttribute(name);
+            if (value == null && AUTHENTICATED_USER.equals(name)) {
+                value = authenticationService.getAuthenticatedUser(principal);
+                super.setAttribute(name, value);
+            }
+            return value;
+        }
+    }
+}
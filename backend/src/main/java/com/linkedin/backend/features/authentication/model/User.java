@@ -15,6 +15,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity(name = "users")
+@Table(indexes = {
+        @Index(name = "idx_users_company_id", columnList = "company, id"),
+        @Index(name = "idx_users_position_id", columnList = "position, id"),
+        @Index(name = "idx_users_location_id", columnList = "location, id")
+})
 @Indexed(index = "users")
 public class User {
     @Id
@@ -45,6 +50,8 @@ public class User {
     private String coverPicture = null;
     private Boolean profileComplete = false;
     private String about = null;
+    @Column(nullable = false)
+    private Long profileVersion = 0L;
 
     @JsonIgnore
     @OneToMany(mappedBy = "recipient", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -187,6 +194,15 @@ public class User {
                 && this.position != null && this.location != null);
     }
 
+    @PreUpdate
+    public void incrementProfileVersion() {
+        this.profileVersion++;
+    }
+
+    public Long getProfileVersion() {
+        return profileVersion;
+    }
+
     public Boolean getProfileComplete() {
         return profileComplete;
     }
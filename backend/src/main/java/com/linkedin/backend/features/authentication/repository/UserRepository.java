@@ -1,16 +1,43 @@
 package com.linkedin.backend.features.authentication.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.linkedin.backend.features.authentication.dto.UserProfile;
 import com.linkedin.backend.features.authentication.model.User;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
-    List<User> findAllByIdNot(Long id);
+    @Query("SELECT new com.linkedin.backend.features.authentication.dto.UserProfile(u.id, u.company, u.position,"
+            + " u.location, u.profileComplete) FROM users u WHERE u.id IN :ids")
+    List<UserProfile> findProfiles(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.linkedin.backend.features.authentication.dto.UserProfile(u.id, u.company, u.position,"
+            + " u.location, u.profileComplete) FROM users u WHERE u.id > :afterId ORDER BY u.id")
+    List<UserProfile> findProfilesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Equality on the (attribute, id) indexes, case-insensitive through the column collation, newest users first.
+    @Query("SELECT u.id FROM users u WHERE u.company = :company AND u.id <> :userId AND u.profileComplete = true"
+            + " ORDER BY u.id DESC")
+    List<Long> findCompleteProfileIdsByCompany(@Param("company") String company, @Param("userId") Long userId,
+                                               Pageable pageable);
+
+    @Query("SELECT u.id FROM users u WHERE u.position = :position AND u.id <> :userId AND u.profileComplete = true"
+            + " ORDER BY u.id DESC")
+    List<Long> findCompleteProfileIdsByPosition(@Param("position") String position, @Param("userId") Long userId,
+                                                Pageable pageable);
+
+    @Query("SELECT u.id FROM users u WHERE u.location = :location AND u.id <> :userId AND u.profileComplete = true"
+            + " ORDER BY u.id DESC")
+    List<Long> findCompleteProfileIdsByLocation(@Param("location") String location, @Param("userId") Long userId,
+                                                Pageable pageable);
 }
@@ -2,6 +2,7 @@ package com.linkedin.backend.features.authentication.service;
 
 import java.io.IOException;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Optional;
@@ -24,12 +25,21 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.linkedin.backend.features.authentication.dto.AuthenticationRequestBody;
 import com.linkedin.backend.features.authentication.dto.AuthenticationResponseBody;
+import com.linkedin.backend.features.authentication.dto.UserPrincipal;
+import com.linkedin.backend.features.authentication.dto.UserView;
 import com.linkedin.backend.features.authentication.model.User;
 import com.linkedin.backend.features.authentication.repository.UserRepository;
 import com.linkedin.backend.features.authentication.utils.EmailService;
 import com.linkedin.backend.features.authentication.utils.Encoder;
 import com.linkedin.backend.features.authentication.utils.JsonWebToken;
+import com.linkedin.backend.features.cache.dto.CacheSettings;
+import com.linkedin.backend.features.cache.service.CacheProvider;
+import com.linkedin.backend.features.cache.service.ValueCache;
+import com.linkedin.backend.features.feed.service.FeedTimelineService;
+import com.linkedin.backend.features.networking.service.ConnectionCountService;
+import com.linkedin.backend.features.networking.service.SocialGraphIndex;
 import com.linkedin.backend.features.storage.service.StorageService;
+import com.linkedin.backend.utils.AfterCommit;
 
 import io.jsonwebtoken.Claims;
 import jakarta.persistence.EntityManager;
@@ -47,6 +57,11 @@ public class AuthenticationService {
     private final EmailService emailService;
     private final RestTemplate restTemplate;
     private final StorageService storageService;
+    private final ValueCache<String, UserView> usersByEmail;
+    private final ValueCache<Long, UserView> usersById;
+    private final SocialGraphIndex socialGraphIndex;
+    private final ConnectionCountService connectionCountService;
+    private final FeedTimelineService feedTimelineService;
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -56,13 +71,21 @@ public class AuthenticationService {
     private String googleClientSecret;
 
     public AuthenticationService(UserRepository userRepository, Encoder encoder, JsonWebToken jsonWebToken,
-            EmailService emailService, RestTemplate restTemplate) {
+            EmailService emailService, RestTemplate restTemplate, CacheProvider cacheProvider,
+            SocialGraphIndex socialGraphIndex, ConnectionCountService connectionCountService,
+            FeedTimelineService feedTimelineService) {
         this.userRepository = userRepository;
         this.encoder = encoder;
         this.jsonWebToken = jsonWebToken;
         this.emailService = emailService;
         this.restTemplate = restTemplate;
         this.storageService = new StorageService();
+        this.socialGraphIndex = socialGraphIndex;
+        this.connectionCountService = connectionCountService;
+        this.feedTimelineService = feedTimelineService;
+        CacheSettings userCacheSettings = new CacheSettings(Duration.ofMinutes(10), 10_000);
+        this.usersByEmail = cacheProvider.create("users-by-email", UserView.class, userCacheSettings);
+        this.usersById = cacheProvider.create("users-by-id", UserView.class, userCacheSettings);
     }
 
     public static String generateEmailVerificationToken() {
@@ -82,6 +105,7 @@ public class AuthenticationService {
             user.get().setEmailVerificationToken(hashedToken);
             user.get().setEmailVerificationTokenExpiryDate(LocalDateTime.now().plusMinutes(durationInMinutes));
             userRepository.save(user.get());
+            evictUser(user.get());
             String subject = "Email Verification";
             String body = String.format("Only one step to take full advantage of LinkedIn.\n\n"
                     + "Enter this code to verify your email: " + "%s\n\n" + "The code will expire in " + "%s"
@@ -105,6 +129,7 @@ public class AuthenticationService {
             user.get().setEmailVerificationToken(null);
             user.get().setEmailVerificationTokenExpiryDate(null);
             userRepository.save(user.get());
+            evictUser(user.get());
         } else if (user.isPresent() && encoder.matches(token, user.get().getEmailVerificationToken())
                 && user.get().getEmailVerificationTokenExpiryDate().isBefore(LocalDateTime.now())) {
             throw new IllegalArgumentException("Email verification token expired.");
@@ -119,7 +144,7 @@ public class AuthenticationService {
         if (!encoder.matches(loginRequestBody.password(), user.getPassword())) {
             throw new IllegalArgumentException("Password is incorrect.");
         }
-        String token = jsonWebToken.generateToken(loginRequestBody.email());
+        String token = jsonWebToken.generateToken(user);
         return new AuthenticationResponseBody(token, "Authentication succeeded.");
     }
 
@@ -158,10 +183,10 @@ public class AuthenticationService {
                 newUser.setEmailVerified(emailVerified);
                 newUser.setFirstName(firstName);
                 newUser.setLastName(lastName);
-                userRepository.save(newUser);
+                user = userRepository.save(newUser);
             }
 
-            String token = jsonWebToken.generateToken(email);
+            String token = jsonWebToken.generateToken(user);
             return new AuthenticationResponseBody(token, "Google authentication succeeded.");
         } else {
             throw new IllegalArgumentException("Failed to exchange code for ID token.");
@@ -177,7 +202,7 @@ public class AuthenticationService {
         user.setEmailVerificationToken(hashedToken);
         user.setEmailVerificationTokenExpiryDate(LocalDateTime.now().plusMinutes(durationInMinutes));
 
-        userRepository.save(user);
+        user = userRepository.save(user);
 
         String subject = "Email Verification";
         String body = String.format("""
@@ -190,23 +215,55 @@ public class AuthenticationService {
         } catch (Exception e) {
             logger.info("Error while sending email: {}", e.getMessage());
         }
-        String authToken = jsonWebToken.generateToken(registerRequestBody.email());
+        String authToken = jsonWebToken.generateToken(user);
         return new AuthenticationResponseBody(authToken, "User registered successfully.");
     }
 
-    public User getUser(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found."));
+    /**
+     * Returns the caller's cached view. A cached copy older than the token was changed on another instance and
+     * is reloaded.
+     */
+    public UserView getAuthenticatedUserView(UserPrincipal principal) {
+        UserView user = getUserById(principal.id());
+        if (user.profileVersion() < principal.profileVersion()) {
+            usersById.evict(principal.id());
+            user = getUserById(principal.id());
+        }
+        return user;
+    }
+
+    /**
+     * Loads the caller as an entity of the current request's persistence context, for writes that reference it.
+     * It is never cached, so requests do not share a mutable copy.
+     */
+    public User getAuthenticatedUser(UserPrincipal principal) {
+        return findManagedUser(principal.id());
+    }
+
+    public UserView getUser(String email) {
+        return usersByEmail.get(email, key -> userRepository.findByEmail(key).map(UserView::of)
+                .orElseThrow(() -> new IllegalArgumentException("User not found.")));
     }
 
     @Transactional
     public void deleteUser(Long userId) {
         User user = entityManager.find(User.class, userId);
         if (user != null) {
+            entityManager.createNativeQuery("UPDATE posts SET like_count = like_count - 1"
+                    + " WHERE id IN (SELECT post_id FROM posts_likes WHERE user_id = :userId)")
+                    .setParameter("userId", userId)
+                    .executeUpdate();
             entityManager.createNativeQuery("DELETE FROM posts_likes WHERE user_id = :userId")
                     .setParameter("userId", userId)
                     .executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM inbox_entries WHERE user_id = :userId OR other_user_id = :userId")
+                    .setParameter("userId", userId)
+                    .executeUpdate();
+            connectionCountService.onUserDeleted(userId);
+            feedTimelineService.evictFollowersOf(userId);
             entityManager.remove(user);
+            evictUser(user);
+            AfterCommit.run(() -> socialGraphIndex.removeUser(userId));
         }
     }
 
@@ -218,6 +275,7 @@ public class AuthenticationService {
             user.get().setPasswordResetToken(hashedToken);
             user.get().setPasswordResetTokenExpiryDate(LocalDateTime.now().plusMinutes(durationInMinutes));
             userRepository.save(user.get());
+            evictUser(user.get());
             String subject = "Password Reset";
             String body = String.format("""
                     You requested a password reset.
@@ -242,6 +300,7 @@ public class AuthenticationService {
             user.get().setPasswordResetTokenExpiryDate(null);
             user.get().setPassword(encoder.encode(newPassword));
             userRepository.save(user.get());
+            evictUser(user.get());
         } else if (user.isPresent() && encoder.matches(token, user.get().getPasswordResetToken())
                 && user.get().getPasswordResetTokenExpiryDate().isBefore(LocalDateTime.now())) {
             throw new IllegalArgumentException("Password reset token expired.");
@@ -250,8 +309,9 @@ public class AuthenticationService {
         }
     }
 
-    public User updateUserProfile(User user, String firstName, String lastName, String company,
+    public User updateUserProfile(Long userId, String firstName, String lastName, String company,
             String position, String location, String about) {
+        User user = findManagedUser(userId);
         if (firstName != null)
             user.setFirstName(firstName);
         if (lastName != null)
@@ -265,10 +325,13 @@ public class AuthenticationService {
         if (about != null)
             user.setAbout(about);
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        evictUser(savedUser);
+        return savedUser;
     }
 
-    public User updateProfilePicture(User user, MultipartFile profilePicture) throws IOException {
+    public User updateProfilePicture(Long userId, MultipartFile profilePicture) throws IOException {
+        User user = findManagedUser(userId);
         if (profilePicture != null) {
             String profilePictureUrl = storageService.saveImage(profilePicture);
             user.setProfilePicture(profilePictureUrl);
@@ -278,10 +341,13 @@ public class AuthenticationService {
 
             user.setProfilePicture(null);
         }
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        evictUser(savedUser);
+        return savedUser;
     }
 
-    public User updateCoverPicture(User user, MultipartFile coverPicture) throws IOException {
+    public User updateCoverPicture(Long userId, MultipartFile coverPicture) throws IOException {
+        User user = findManagedUser(userId);
         if (coverPicture != null) {
             String coverPictureUrl = storageService.saveImage(coverPicture);
             user.setCoverPicture(coverPictureUrl);
@@ -292,12 +358,42 @@ public class AuthenticationService {
             user.setCoverPicture(null);
         }
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        evictUser(savedUser);
+        return savedUser;
+    }
+
+    public UserView getUserById(Long userId) {
+        return usersById.get(userId, key -> userRepository.findById(key).map(UserView::of)
+                .orElseThrow(() -> new IllegalArgumentException("User not found.")));
     }
 
-    public User getUserById(Long receiverId) {
-        return userRepository.findById(receiverId)
+    /**
+     * A reference to an existing user, for foreign keys, without loading the entity.
+     */
+    public User getUserReference(Long userId) {
+        getUserById(userId);
+        return userRepository.getReferenceById(userId);
+    }
+
+    /**
+     * Updates are applied to a freshly loaded copy, never to a cached one.
+     */
+    private User findManagedUser(Long userId) {
+        return userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found."));
     }
 
+    /**
+     * Evicts the user's cached views once the change commits, so a concurrent read cannot cache the old row again.
+     */
+    private void evictUser(User user) {
+        String email = user.getEmail();
+        Long userId = user.getId();
+        AfterCommit.run(() -> {
+            usersByEmail.evict(email);
+            usersById.evict(userId);
+        });
+    }
+
 }
\ No newline at end of file
@@ -1,110 +1,131 @@
 package com.linkedin.backend.features.authentication.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.linkedin.backend.features.authentication.dto.UserPrincipal;
+import com.linkedin.backend.features.authentication.model.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 import javax.crypto.SecretKey;
-import java.math.BigInteger;
-import java.security.KeyFactory;
-import java.security.spec.RSAPublicKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
-import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JsonWebToken {
-    private final RestTemplate restTemplate;
-    @Value("${jwt.secret.key}")
-    private String secret;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String PROFILE_VERSION_CLAIM = "pv";
+    private static final int MAX_VERIFIED_TOKENS = 100_000;
+
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final JwtParser googleIdTokenParser;
+    /**
+     * Principals of already verified tokens, keyed by the token's SHA-256 so raw tokens are not retained.
+     * Each entry expires with its token.
+     */
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(MAX_VERIFIED_TOKENS)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String tokenHash, VerifiedToken token, long currentTime) {
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(0, token.expiresAt() - System.currentTimeMillis()));
+                }
+
+                @Override
+                public long expireAfterUpdate(String tokenHash, VerifiedToken token, long currentTime,
+                                              long currentDuration) {
+                    return currentDuration;
+                }
 
-    public JsonWebToken(RestTemplate restTemplate) {
-        this.restTemplate = restTemplate;
+                @Override
+                public long expireAfterRead(String tokenHash, VerifiedToken token, long currentTime,
+                                            long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    public JsonWebToken(JwksKeyStore jwksKeyStore, @Value("${jwt.secret.key}") String secret) {
+        this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.googleIdTokenParser = Jwts.parser()
+                .keyLocator(header -> jwksKeyStore.getKey((String) header.get("kid")))
+                .build();
     }
 
     public SecretKey getKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        return key;
     }
 
-    public String generateToken(String email) {
+    public String generateToken(User user) {
         return Jwts.builder()
-                .subject(email)
+                .subject(user.getEmail())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(PROFILE_VERSION_CLAIM, user.getProfileVersion())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
-                .signWith(getKey())
+                .signWith(key)
                 .compact();
     }
 
     public String getEmailFromToken(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parseToken(token).email();
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimResolver.apply(claims);
+    /**
+     * Verifies the token, expiration included, and reads the principal. Tokens issued before the user id
+     * claim was added yield a principal without id.
+     */
+    public UserPrincipal parseToken(String token) {
+        String tokenHash = hash(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(tokenHash);
+        if (verified == null || verified.expiresAt() <= System.currentTimeMillis()) {
+            verified = verify(token);
+            verifiedTokens.put(tokenHash, verified);
+        }
+        return verified.principal();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    VerifiedToken verify(String token) {
+        Claims claims = extractAllClaims(token);
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        Number profileVersion = claims.get(PROFILE_VERSION_CLAIM, Number.class);
+        UserPrincipal principal = new UserPrincipal(userId != null ? userId.longValue() : null, claims.getSubject(),
+                profileVersion != null ? profileVersion.longValue() : 0);
+        // Tokens without expiration are verified on every call.
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(principal, expiration != null ? expiration.getTime() : 0);
     }
 
-
-    public boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private Claims extractAllClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
+    record VerifiedToken(UserPrincipal principal, long expiresAt) {
+    }
 
     public Claims getClaimsFromGoogleOauthIdToken(String idToken) {
         try {
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange("https://www.googleapis.com/oauth2/v3/certs", HttpMethod.GET, null, new ParameterizedTypeReference<>() {
-            });
-
-            if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null) {
-                throw new IllegalArgumentException("Failed to fetch JWKs from Google.");
-            }
-
-            Map<String, Object> body = response.getBody();
-            List<Map<String, Object>> keys = (List<Map<String, Object>>) body.get("keys");
-
-            JwtParser jwtParser = Jwts.parser().keyLocator(header -> {
-                String kid = (String) header.get("kid");
-
-                for (Map<String, Object> key : keys) {
-                    if (kid.equals(key.get("kid"))) {
-                        try {
-                            BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode((String) key.get("n")));
-                            BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode((String) key.get("e")));
-                            RSAPublicKeySpec rsaPublicKeySpec = new RSAPublicKeySpec(modulus, exponent);
-                            return KeyFactory.getInstance(
-                                    key.get("kty").toString()
-                            ).generatePublic(rsaPublicKeySpec);
-                        } catch (Exception e) {
-                            throw new IllegalArgumentException("Failed to parse RSA public key.", e);
-                        }
-                    }
-                }
-                throw new IllegalArgumentException("Failed to locate JWK with kid: " + kid);
-            }).build();
-
-            return jwtParser.parseSignedClaims(idToken).getPayload();
+            return googleIdTokenParser.parseSignedClaims(idToken).getPayload();
         } catch (Exception e) {
             throw new IllegalArgumentException("Failed to validate ID token.", e);
         }
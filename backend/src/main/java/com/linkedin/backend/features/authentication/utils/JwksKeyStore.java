@@ -0,0 +1,143 @@
+package com.linkedin.backend.features.authentication.utils;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Public keys of the OAuth provider (Google by default), parsed once and cached by {@code kid}.
+ * <p>
+ * The key set is fetched in the background at startup and again shortly before the {@code Cache-Control}
+ * max-age of the last response runs out, so verifying an ID token does not wait on the network. A token
+ * signed with an unknown {@code kid} (after a key rotation) triggers an immediate refetch, at most once per
+ * {@code oauth.google.jwks.min-refetch-interval}.
+ */
+@Component
+public class JwksKeyStore {
+    private static final Logger logger = LoggerFactory.getLogger(JwksKeyStore.class);
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(5);
+
+    private final RestTemplate restTemplate;
+    private final String jwksUrl;
+    private final Duration minRefetchInterval;
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long expiresAt;
+    private long lastFetchAttempt;
+    private int fetchCount;
+
+    public JwksKeyStore(RestTemplateBuilder restTemplateBuilder,
+                        @Value("${oauth.google.jwks.url:https://www.googleapis.com/oauth2/v3/certs}") String jwksUrl,
+                        @Value("${oauth.google.jwks.min-refetch-interval:30s}") Duration minRefetchInterval) {
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(Duration.ofSeconds(5))
+                .setReadTimeout(Duration.ofSeconds(5))
+                .build();
+        this.jwksUrl = jwksUrl;
+        this.minRefetchInterval = minRefetchInterval;
+    }
+
+    public PublicKey getKey(String kid) {
+        PublicKey key = keys.get(kid);
+        if (key == null && refresh(false)) {
+            key = keys.get(kid);
+        }
+        if (key == null) {
+            throw new IllegalArgumentException("Failed to locate JWK with kid: " + kid);
+        }
+        return key;
+    }
+
+    @Scheduled(fixedDelayString = "${oauth.google.jwks.refresh-check-interval:60000}")
+    public void refreshIfStale() {
+        if (System.currentTimeMillis() >= expiresAt - REFRESH_AHEAD.toMillis()) {
+            refresh(true);
+        }
+    }
+
+    synchronized int getFetchCount() {
+        return fetchCount;
+    }
+
+    long getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Returns whether the key set was fetched. Refetches for unknown key ids are rate limited; on failure
+     * the previous keys stay in use.
+     */
+    private synchronized boolean refresh(boolean scheduled) {
+        long now = System.currentTimeMillis();
+        if (!scheduled && now - lastFetchAttempt < minRefetchInterval.toMillis()) {
+            return false;
+        }
+        lastFetchAttempt = now;
+        fetchCount++;
+
+        try {
+            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(jwksUrl, HttpMethod.GET, null,
+                    new ParameterizedTypeReference<>() {
+                    });
+            if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+                throw new IllegalStateException("Unexpected response status " + response.getStatusCode());
+            }
+
+            keys = parseKeys(response.getBody());
+            expiresAt = now + maxAge(response.getHeaders().getCacheControl()).toMillis();
+            return true;
+        } catch (Exception e) {
+            logger.warn("Error while fetching JWKs from {}: {}", jwksUrl, e.getMessage());
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, PublicKey> parseKeys(Map<String, Object> body) {
+        Map<String, PublicKey> parsed = new HashMap<>();
+        for (Map<String, Object> key : (List<Map<String, Object>>) body.get("keys")) {
+            if (!"RSA".equals(key.get("kty"))) {
+                continue;
+            }
+            try {
+                BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode((String) key.get("n")));
+                BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode((String) key.get("e")));
+                parsed.put((String) key.get("kid"),
+                        KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+            } catch (Exception e) {
+                logger.warn("Error while parsing JWK {}: {}", key.get("kid"), e.getMessage());
+            }
+        }
+        return Map.copyOf(parsed);
+    }
+
+    private static Duration maxAge(String cacheControl) {
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE.matcher(cacheControl);
+            if (matcher.find()) {
+                return Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+            }
+        }
+        return DEFAULT_MAX_AGE;
+    }
+}
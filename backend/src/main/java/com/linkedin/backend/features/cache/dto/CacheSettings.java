@@ -0,0 +1,16 @@
+package com.linkedin.backend.features.cache.dto;
+
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+public record CacheSettings(Duration timeToLive, long maximumSize) {
+    /**
+     * Applies the {@code cache.<name>.time-to-live} and {@code cache.<name>.maximum-size} overrides, if any.
+     */
+    public CacheSettings resolve(Environment environment, String name) {
+        return new CacheSettings(
+                environment.getProperty("cache." + name + ".time-to-live", Duration.class, timeToLive),
+                environment.getProperty("cache." + name + ".maximum-size", Long.class, maximumSize));
+    }
+}
@@ -0,0 +1,11 @@
+package com.linkedin.backend.features.cache.service;
+
+import com.linkedin.backend.features.cache.dto.CacheSettings;
+
+/**
+ * Creates named caches on the configured backend, selected with {@code cache.backend}
+ * ({@code caffeine} by default, or {@code redis}).
+ */
+public interface CacheProvider {
+    <K, V> ValueCache<K, V> create(String name, Class<V> type, CacheSettings settings);
+}
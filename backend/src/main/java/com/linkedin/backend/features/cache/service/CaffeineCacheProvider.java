@@ -0,0 +1,54 @@
+package com.linkedin.backend.features.cache.service;
+
+import java.util.function.Function;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.backend.features.cache.dto.CacheSettings;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * In-process caches. Caffeine's W-TinyLFU admission keeps frequently used entries when the size bound
+ * is reached, and its statistics are published as {@code cache.*} meters.
+ */
+@Service
+@ConditionalOnProperty(name = "cache.backend", havingValue = "caffeine", matchIfMissing = true)
+public class CaffeineCacheProvider implements CacheProvider {
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    public CaffeineCacheProvider(MeterRegistry meterRegistry, Environment environment) {
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+    }
+
+    @Override
+    public <K, V> ValueCache<K, V> create(String name, Class<V> type, CacheSettings settings) {
+        CacheSettings resolved = settings.resolve(environment, name);
+        Cache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(resolved.maximumSize())
+                .expireAfterWrite(resolved.timeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        return new CaffeineValueCache<>(cache);
+    }
+
+    private record CaffeineValueCache<K, V>(Cache<K, V> cache) implements ValueCache<K, V> {
+        @Override
+        public V get(K key, Function<? super K, ? extends V> loader) {
+            return cache.get(key, loader);
+        }
+
+        @Override
+        public void evict(K key) {
+            cache.invalidate(key);
+        }
+    }
+}
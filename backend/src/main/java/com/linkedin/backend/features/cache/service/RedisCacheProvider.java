@@ -0,0 +1,114 @@
+package com.linkedin.backend.features.cache.service;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.backend.features.cache.dto.CacheSettings;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Caches shared by all instances, stored as JSON in Redis (or any server speaking its protocol).
+ * <p>
+ * Entries expire with the cache's time to live. Redis cannot bound the size of a single cache, so the
+ * size bound is the server's {@code maxmemory} with an LFU eviction policy. When the server is unreachable
+ * the value is loaded from the source and the failure is only logged.
+ */
+@Service
+@ConditionalOnProperty(name = "cache.backend", havingValue = "redis")
+public class RedisCacheProvider implements CacheProvider {
+    private static final Logger logger = LoggerFactory.getLogger(RedisCacheProvider.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final String keyPrefix;
+
+    public RedisCacheProvider(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry, Environment environment,
+            @Value("${cache.redis.key-prefix:linkedin:}") String keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    public <K, V> ValueCache<K, V> create(String name, Class<V> type, CacheSettings settings) {
+        return new RedisValueCache<>(name, type, settings.resolve(environment, name).timeToLive());
+    }
+
+    private class RedisValueCache<K, V> implements ValueCache<K, V> {
+        private final String name;
+        private final Class<V> type;
+        private final Duration timeToLive;
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter puts;
+        private final Counter evictions;
+
+        RedisValueCache(String name, Class<V> type, Duration timeToLive) {
+            this.name = name;
+            this.type = type;
+            this.timeToLive = timeToLive;
+            this.hits = meterRegistry.counter("cache.gets", "cache", name, "result", "hit");
+            this.misses = meterRegistry.counter("cache.gets", "cache", name, "result", "miss");
+            this.puts = meterRegistry.counter("cache.puts", "cache", name);
+            this.evictions = meterRegistry.counter("cache.evictions", "cache", name);
+        }
+
+        @Override
+        public V get(K key, Function<? super K, ? extends V> loader) {
+            String redisKey = redisKey(key);
+            try {
+                String json = redisTemplate.opsForValue().get(redisKey);
+                if (json != null) {
+                    hits.increment();
+                    return objectMapper.readValue(json, type);
+                }
+            } catch (Exception e) {
+                logger.warn("Error while reading {} from cache: {}", redisKey, e.getMessage());
+            }
+
+            misses.increment();
+            V value = loader.apply(key);
+            if (value != null) {
+                try {
+                    redisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(value), timeToLive);
+                    puts.increment();
+                } catch (Exception e) {
+                    logger.warn("Error while writing {} to cache: {}", redisKey, e.getMessage());
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public void evict(K key) {
+            String redisKey = redisKey(key);
+            try {
+                if (Boolean.TRUE.equals(redisTemplate.delete(redisKey))) {
+                    evictions.increment();
+                }
+            } catch (Exception e) {
+                logger.warn("Error while evicting {} from cache: {}", redisKey, e.getMessage());
+            }
+        }
+
+        private String redisKey(K key) {
+            return keyPrefix + name + ":" + key;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.linkedin.backend.features.cache.service;
+
+import java.util.function.Function;
+
+public interface ValueCache<K, V> {
+    /**
+     * Returns the cached value, or computes and caches it with the loader. Null values are not cached.
+     */
+    V get(K key, Function<? super K, ? extends V> loader);
+
+    void evict(K key);
+}
@@ -1,17 +1,21 @@
 package com.linkedin.backend.features.feed.controller;
 
 import com.linkedin.backend.dto.Response;
-import com.linkedin.backend.features.authentication.model.User;
+import com.linkedin.backend.features.authentication.dto.UserPrincipal;
+import com.linkedin.backend.features.authentication.dto.UserSummary;
 import com.linkedin.backend.features.feed.dto.CommentDto;
-import com.linkedin.backend.features.feed.model.Comment;
-import com.linkedin.backend.features.feed.model.Post;
+import com.linkedin.backend.features.feed.dto.CommentView;
+import com.linkedin.backend.features.feed.dto.LikeEvent;
+import com.linkedin.backend.features.feed.dto.LikeSummary;
+import com.linkedin.backend.features.feed.dto.PostView;
 import com.linkedin.backend.features.feed.service.FeedService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/feed")
@@ -23,88 +27,113 @@ public class FeedController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Post>> getFeedPosts(@RequestAttribute("authenticatedUser") User user) {
-        List<Post> posts = feedService.getFeedPosts(user.getId());
+    public ResponseEntity<List<PostView>> getFeedPosts(@RequestAttribute("authenticatedPrincipal") UserPrincipal principal,
+                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+                                                       @RequestParam(required = false) Long beforeId,
+                                                       @RequestParam(required = false, defaultValue = "10") Integer size) {
+        List<PostView> posts = feedService.getFeedPosts(principal.id(), before, beforeId, size);
         return ResponseEntity.ok(posts);
     }
 
     @GetMapping("/posts")
-    public ResponseEntity<List<Post>> getAllPosts() {
-        List<Post> posts = feedService.getAllPosts();
+    public ResponseEntity<List<PostView>> getAllPosts() {
+        List<PostView> posts = feedService.getAllPosts();
         return ResponseEntity.ok(posts);
     }
 
     @PostMapping("/posts")
-    public ResponseEntity<Post> createPost(@RequestParam(value = "picture", required = false) MultipartFile picture,
-                                           @RequestParam("content") String content,
-                                           @RequestAttribute("authenticatedUser") User user) throws Exception {
-        Post post = feedService.createPost(picture, content, user.getId());
+    public ResponseEntity<PostView> createPost(@RequestParam(value = "picture", required = false) MultipartFile picture,
+                                               @RequestParam("content") String content,
+                                               @RequestAttribute("authenticatedPrincipal") UserPrincipal principal) throws Exception {
+        PostView post = feedService.createPost(picture, content, principal.id());
         return ResponseEntity.ok(post);
     }
 
     @GetMapping("/posts/{postId}")
-    public ResponseEntity<Post> getPost(@PathVariable Long postId) {
-        Post post = feedService.getPost(postId);
+    public ResponseEntity<PostView> getPost(@PathVariable Long postId) {
+        PostView post = feedService.getPost(postId);
         return ResponseEntity.ok(post);
     }
 
     @PutMapping("/posts/{postId}")
-    public ResponseEntity<Post> editPost(@PathVariable Long postId, @RequestParam(value = "picture", required = false) MultipartFile picture,
-                                         @RequestParam("content") String content,
-                                         @RequestAttribute("authenticatedUser") User user) throws Exception {
-        Post post = feedService.editPost(postId, user.getId(), picture, content);
+    public ResponseEntity<PostView> editPost(@PathVariable Long postId, @RequestParam(value = "picture", required = false) MultipartFile picture,
+                                             @RequestParam("content") String content,
+                                             @RequestAttribute("authenticatedPrincipal") UserPrincipal principal) throws Exception {
+        PostView post = feedService.editPost(postId, principal.id(), picture, content);
         return ResponseEntity.ok(post);
     }
 
     @DeleteMapping("/posts/{postId}")
     public ResponseEntity<Response> deletePost(@PathVariable Long postId,
-                                               @RequestAttribute("authenticatedUser") User user) {
-        feedService.deletePost(postId, user.getId());
+                                               @RequestAttribute("authenticatedPrincipal") UserPrincipal principal) {
+        feedService.deletePost(postId, principal.id());
         return ResponseEntity.ok(new Response("Post deleted successfully."));
     }
 
     @PostMapping("/posts/{postId}/comments")
-    public ResponseEntity<Comment> addComment(@PathVariable Long postId, @RequestBody CommentDto commentDto,
-                                              @RequestAttribute("authenticatedUser") User user) {
-        Comment comment = feedService.addComment(postId, user.getId(), commentDto.getContent());
+    public ResponseEntity<CommentView> addComment(@PathVariable Long postId, @RequestBody CommentDto commentDto,
+                                                  @RequestAttribute("authenticatedPrincipal") UserPrincipal principal) {
+        CommentView comment = feedService.addComment(postId, principal.id(), commentDto.getContent(),
+                commentDto.getParentCommentId());
         return ResponseEntity.ok(comment);
     }
 
     @GetMapping("/posts/{postId}/comments")
-    public ResponseEntity<List<Comment>> getComments(@PathVariable Long postId) {
-        List<Comment> comments = feedService.getPostComments(postId);
+    public ResponseEntity<List<CommentView>> getComments(@PathVariable Long postId,
+                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+                                                         @RequestParam(required = false) Long beforeId,
+                                                         @RequestParam(required = false, defaultValue = "10") Integer size) {
+        List<CommentView> comments = feedService.getPostComments(postId, before, beforeId, size);
         return ResponseEntity.ok(comments);
     }
 
+    @GetMapping("/comments/{commentId}/replies")
+    public ResponseEntity<List<CommentView>> getReplies(@PathVariable Long commentId,
+                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime after,
+                                                        @RequestParam(required = false) Long afterId,
+                                                        @RequestParam(required = false, defaultValue = "10") Integer size) {
+        List<CommentView> replies = feedService.getCommentReplies(commentId, after, afterId, size);
+        return ResponseEntity.ok(replies);
+    }
+
     @DeleteMapping("/comments/{commentId}")
     public ResponseEntity<Response> deleteComment(@PathVariable Long commentId,
-                                                  @RequestAttribute("authenticatedUser") User user) {
-        feedService.deleteComment(commentId, user.getId());
+                                                  @RequestAttribute("authenticatedPrincipal") UserPrincipal principal) {
+        feedService.deleteComment(commentId, principal.id());
         return ResponseEntity.ok(new Response("Comment deleted successfully."));
     }
 
     @PutMapping("/comments/{commentId}")
-    public ResponseEntity<Comment> editComment(@PathVariable Long commentId, @RequestBody CommentDto commentDto,
-                                               @RequestAttribute("authenticatedUser") User user) {
-        Comment comment = feedService.editComment(commentId, user.getId(), commentDto.getContent());
+    public ResponseEntity<CommentView> editComment(@PathVariable Long commentId, @RequestBody CommentDto commentDto,
+                                                   @RequestAttribute("authenticatedPrincipal") UserPrincipal principal) {
+        CommentView comment = feedService.editComment(commentId, principal.id(), commentDto.getContent());
         return ResponseEntity.ok(comment);
     }
 
     @PutMapping("/posts/{postId}/like")
-    public ResponseEntity<Post> likePost(@PathVariable Long postId, @RequestAttribute("authenticatedUser") User user) {
-        Post post = feedService.likePost(postId, user.getId());
-        return ResponseEntity.ok(post);
+    public ResponseEntity<LikeEvent> likePost(@PathVariable Long postId, @RequestAttribute("authenticatedPrincipal") UserPrincipal principal) {
+        LikeEvent likeEvent = feedService.likePost(postId, principal.id());
+        return ResponseEntity.ok(likeEvent);
     }
 
     @GetMapping("/posts/{postId}/likes")
-    public ResponseEntity<Set<User>> getPostLikes(@PathVariable Long postId) {
-        Set<User> likes = feedService.getPostLikes(postId);
+    public ResponseEntity<List<UserSummary>> getPostLikes(@PathVariable Long postId,
+                                                          @RequestParam(required = false) Long afterId,
+                                                          @RequestParam(required = false, defaultValue = "20") Integer size) {
+        List<UserSummary> likes = feedService.getPostLikes(postId, afterId, size);
         return ResponseEntity.ok(likes);
     }
 
+    @GetMapping("/likes/summary")
+    public ResponseEntity<List<LikeSummary>> getLikeSummaries(@RequestParam List<Long> postIds,
+                                                              @RequestAttribute("authenticatedPrincipal") UserPrincipal principal) {
+        List<LikeSummary> summaries = feedService.getLikeSummaries(postIds, principal.id());
+        return ResponseEntity.ok(summaries);
+    }
+
     @GetMapping("/posts/user/{userId}")
-    public ResponseEntity<List<Post>> getPostsByUserId(@PathVariable Long userId) {
-        List<Post> posts = feedService.getPostsByUserId(userId);
+    public ResponseEntity<List<PostView>> getPostsByUserId(@PathVariable Long userId) {
+        List<PostView> posts = feedService.getPostsByUserId(userId);
         return ResponseEntity.ok(posts);
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.linkedin.backend.features.feed.dto;
 
 public class CommentDto {
     private String content;
+    private Long parentCommentId;
 
     public CommentDto(String content) {
         this.content = content;
@@ -17,4 +18,12 @@ public class CommentDto {
     public void setContent(String content) {
         this.content = content;
     }
+
+    public Long getParentCommentId() {
+        return parentCommentId;
+    }
+
+    public void setParentCommentId(Long parentCommentId) {
+        this.parentCommentId = parentCommentId;
+    }
 }
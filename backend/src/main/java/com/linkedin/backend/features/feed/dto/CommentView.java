@@ -0,0 +1,27 @@
+package com.linkedin.backend.features.feed.dto;
+
+import com.linkedin.backend.features.authentication.dto.UserSummary;
+import com.linkedin.backend.features.feed.model.Comment;
+
+import java.time.LocalDateTime;
+
+public record CommentView(
+        Long id,
+        Long parentCommentId,
+        UserSummary author,
+        String content,
+        long replyCount,
+        LocalDateTime creationDate,
+        LocalDateTime updatedDate
+) {
+    public static CommentView of(Comment comment) {
+        return of(comment, 0);
+    }
+
+    public static CommentView of(Comment comment, long replyCount) {
+        Comment parentComment = comment.getParentComment();
+        return new CommentView(comment.getId(), parentComment != null ? parentComment.getId() : null,
+                UserSummary.of(comment.getAuthor()), comment.getContent(), replyCount,
+                comment.getCreationDate(), comment.getUpdatedDate());
+    }
+}
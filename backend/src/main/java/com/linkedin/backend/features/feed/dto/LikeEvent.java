@@ -0,0 +1,4 @@
+package com.linkedin.backend.features.feed.dto;
+
+public record LikeEvent(Long postId, Long userId, String firstName, String lastName, boolean liked, long likeCount) {
+}
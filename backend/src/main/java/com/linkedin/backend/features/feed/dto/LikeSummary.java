@@ -0,0 +1,4 @@
+package com.linkedin.backend.features.feed.dto;
+
+public record LikeSummary(Long postId, long likeCount, boolean likedByMe) {
+}
@@ -0,0 +1,6 @@
+package com.linkedin.backend.features.feed.dto;
+
+import java.time.LocalDateTime;
+
+public record PostKey(Long id, LocalDateTime creationDate) {
+}
@@ -0,0 +1,4 @@
+package com.linkedin.backend.features.feed.dto;
+
+public record PostLiker(Long postId, Long userId) {
+}
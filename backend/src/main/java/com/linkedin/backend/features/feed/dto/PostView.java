@@ -0,0 +1,24 @@
+package com.linkedin.backend.features.feed.dto;
+
+import com.linkedin.backend.features.authentication.dto.UserSummary;
+
+import java.time.LocalDateTime;
+
+public record PostView(
+        Long id,
+        String content,
+        String picture,
+        UserSummary author,
+        long likeCount,
+        long commentCount,
+        LocalDateTime creationDate,
+        LocalDateTime updatedDate
+) {
+    public PostView withAddedCounts(long likes, long comments) {
+        if (likes == 0 && comments == 0) {
+            return this;
+        }
+        return new PostView(id, content, picture, author, likeCount + likes, commentCount + comments,
+                creationDate, updatedDate);
+    }
+}
@@ -0,0 +1,4 @@
+package com.linkedin.backend.features.feed.dto;
+
+public record ReplyCount(Long parentCommentId, Long count) {
+}
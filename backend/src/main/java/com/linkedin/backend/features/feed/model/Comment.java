@@ -6,8 +6,13 @@ import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity(name = "comments")
+@Table(indexes = {
+        @Index(name = "idx_comments_post_parent_creation_date_id", columnList = "post_id, parent_comment_id, creation_date, id"),
+        @Index(name = "idx_comments_parent_creation_date_id", columnList = "parent_comment_id, creation_date, id")
+})
 public class Comment {
 
     @Id
@@ -20,6 +25,13 @@ public class Comment {
     @ManyToOne
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_comment_id")
+    @JsonIgnore
+    private Comment parentComment;
+    @OneToMany(mappedBy = "parentComment", cascade = CascadeType.REMOVE)
+    @JsonIgnore
+    private List<Comment> replies;
     @Column(nullable = false)
     private String content;
 
@@ -37,6 +49,11 @@ public class Comment {
         this.content = content;
     }
 
+    public Comment(Post post, User author, String content, Comment parentComment) {
+        this(post, author, content);
+        this.parentComment = parentComment;
+    }
+
     @PreUpdate
     public void preUpdate() {
         this.updatedDate = LocalDateTime.now();
@@ -66,6 +83,22 @@ public class Comment {
         this.author = author;
     }
 
+    public Comment getParentComment() {
+        return parentComment;
+    }
+
+    public void setParentComment(Comment parentComment) {
+        this.parentComment = parentComment;
+    }
+
+    public List<Comment> getReplies() {
+        return replies;
+    }
+
+    public void setReplies(List<Comment> replies) {
+        this.replies = replies;
+    }
+
     public String getContent() {
         return content;
     }
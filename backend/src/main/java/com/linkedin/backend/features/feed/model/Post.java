@@ -10,19 +10,23 @@ import org.hibernate.annotations.CreationTimestamp;
 import com.linkedin.backend.features.authentication.model.User;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotEmpty;
 
 @Entity(name = "posts")
+@Table(indexes = @Index(name = "idx_posts_author_creation_date_id", columnList = "author_id, creation_date, id"))
 public class Post {
 
     @Id
@@ -41,6 +45,10 @@ public class Post {
     @JsonIgnore
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments;
+    @Column(nullable = false, updatable = false)
+    private Integer likeCount = 0;
+    @Column(nullable = false, updatable = false)
+    private Integer commentCount = 0;
     @CreationTimestamp
     private LocalDateTime creationDate;
 
@@ -107,6 +115,22 @@ public class Post {
         this.comments = comments;
     }
 
+    public Integer getLikeCount() {
+        return likeCount;
+    }
+
+    public void setLikeCount(Integer likeCount) {
+        this.likeCount = likeCount;
+    }
+
+    public Integer getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(Integer commentCount) {
+        this.commentCount = commentCount;
+    }
+
     public LocalDateTime getCreationDate() {
         return creationDate;
     }
@@ -1,7 +1,53 @@
 package com.linkedin.backend.features.feed.repository;
 
+import com.linkedin.backend.features.feed.dto.ReplyCount;
 import com.linkedin.backend.features.feed.model.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-}
\ No newline at end of file
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT c FROM comments c"
+            + " WHERE c.post.id = :postId AND c.parentComment IS NULL"
+            + " ORDER BY c.creationDate DESC, c.id DESC")
+    List<Comment> findTopLevelComments(@Param("postId") Long postId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT c FROM comments c"
+            + " WHERE c.post.id = :postId AND c.parentComment IS NULL"
+            + " AND (c.creationDate < :before OR (c.creationDate = :before AND c.id < :beforeId))"
+            + " ORDER BY c.creationDate DESC, c.id DESC")
+    List<Comment> findTopLevelCommentsBefore(@Param("postId") Long postId,
+                                             @Param("before") LocalDateTime before,
+                                             @Param("beforeId") Long beforeId,
+                                             Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT c FROM comments c"
+            + " WHERE c.parentComment.id = :parentCommentId"
+            + " ORDER BY c.creationDate ASC, c.id ASC")
+    List<Comment> findReplies(@Param("parentCommentId") Long parentCommentId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT c FROM comments c"
+            + " WHERE c.parentComment.id = :parentCommentId"
+            + " AND (c.creationDate > :after OR (c.creationDate = :after AND c.id > :afterId))"
+            + " ORDER BY c.creationDate ASC, c.id ASC")
+    List<Comment> findRepliesAfter(@Param("parentCommentId") Long parentCommentId,
+                                   @Param("after") LocalDateTime after,
+                                   @Param("afterId") Long afterId,
+                                   Pageable pageable);
+
+    @Query("SELECT new com.linkedin.backend.features.feed.dto.ReplyCount(c.parentComment.id, COUNT(c))"
+            + " FROM comments c WHERE c.parentComment.id IN :parentCommentIds GROUP BY c.parentComment.id")
+    List<ReplyCount> countReplies(@Param("parentCommentIds") Collection<Long> parentCommentIds);
+
+    long countByParentCommentId(Long parentCommentId);
+}
@@ -1,17 +1,58 @@
 package com.linkedin.backend.features.feed.repository;
 
+import com.linkedin.backend.features.authentication.dto.UserSummary;
+import com.linkedin.backend.features.feed.dto.PostKey;
+import com.linkedin.backend.features.feed.dto.PostLiker;
 import com.linkedin.backend.features.feed.model.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
-    List<Post> findByAuthorId(Long authorId);
+    @EntityGraph(attributePaths = "author")
+    List<Post> findByAuthorIdOrderByCreationDateDesc(Long authorId);
 
+    @EntityGraph(attributePaths = "author")
     List<Post> findAllByOrderByCreationDateDesc();
-    
-    List<Post> findByAuthorIdInOrderByCreationDateDesc(Set<Long> connectedUserIds);
-}
\ No newline at end of file
+
+    @EntityGraph(attributePaths = "author")
+    List<Post> findByIdIn(Collection<Long> ids);
+
+    @Query("SELECT new com.linkedin.backend.features.authentication.dto.UserSummary(u.id, u.firstName, u.lastName, u.position, u.profilePicture)"
+            + " FROM posts p JOIN p.likes u WHERE p.id = :postId AND u.id > :afterId ORDER BY u.id")
+    List<UserSummary> findLikers(@Param("postId") Long postId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.linkedin.backend.features.feed.dto.PostLiker(p.id, u.id) FROM posts p JOIN p.likes u"
+            + " WHERE p.id IN :postIds")
+    List<PostLiker> findLikerIds(@Param("postIds") Collection<? extends Long> postIds);
+
+    @Query("SELECT new com.linkedin.backend.features.feed.dto.PostKey(p.id, p.creationDate) FROM posts p"
+            + " WHERE p.author.id IN :authorIds ORDER BY p.creationDate DESC, p.id DESC")
+    List<PostKey> findFeedKeys(@Param("authorIds") Collection<Long> authorIds, Pageable pageable);
+
+    @Query("SELECT new com.linkedin.backend.features.feed.dto.PostKey(p.id, p.creationDate) FROM posts p"
+            + " WHERE p.author.id IN :authorIds"
+            + " AND (p.creationDate < :creationDate OR (p.creationDate = :creationDate AND p.id < :id))"
+            + " ORDER BY p.creationDate DESC, p.id DESC")
+    List<PostKey> findFeedKeysBefore(@Param("authorIds") Collection<Long> authorIds,
+                                     @Param("creationDate") LocalDateTime creationDate,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO posts_likes (post_id, user_id) VALUES (:postId, :userId)", nativeQuery = true)
+    int insertLike(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM posts_likes WHERE post_id = :postId AND user_id = :userId", nativeQuery = true)
+    int deleteLike(@Param("postId") Long postId, @Param("userId") Long userId);
+}
@@ -1,46 +1,74 @@
 package com.linkedin.backend.features.feed.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.linkedin.backend.features.authentication.dto.UserSummary;
 import com.linkedin.backend.features.authentication.model.User;
 import com.linkedin.backend.features.authentication.repository.UserRepository;
+import com.linkedin.backend.features.cache.dto.CacheSettings;
+import com.linkedin.backend.features.cache.service.CacheProvider;
+import com.linkedin.backend.features.cache.service.ValueCache;
+import com.linkedin.backend.features.feed.dto.CommentView;
+import com.linkedin.backend.features.feed.dto.LikeEvent;
+import com.linkedin.backend.features.feed.dto.LikeSummary;
+import com.linkedin.backend.features.feed.dto.PostView;
+import com.linkedin.backend.features.feed.dto.ReplyCount;
 import com.linkedin.backend.features.feed.model.Comment;
 import com.linkedin.backend.features.feed.model.Post;
 import com.linkedin.backend.features.feed.repository.CommentRepository;
 import com.linkedin.backend.features.feed.repository.PostRepository;
-import com.linkedin.backend.features.networking.model.Connection;
-import com.linkedin.backend.features.networking.model.Status;
-import com.linkedin.backend.features.networking.repository.ConnectionRepository;
 import com.linkedin.backend.features.notifications.service.NotificationService;
 import com.linkedin.backend.features.storage.service.StorageService;
+import com.linkedin.backend.utils.AfterCommit;
+
+import jakarta.transaction.Transactional;
 
 @Service
 public class FeedService {
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+    private static final int MAX_LIKERS_PAGE_SIZE = 100;
+    private static final int MAX_LIKE_SUMMARY_POSTS = 100;
+    private static final int MAX_COMMENTS_PAGE_SIZE = 50;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
     private final NotificationService notificationService;
-    private final ConnectionRepository connectionRepository;
+    private final FeedTimelineService feedTimelineService;
+    private final PostCounterService postCounterService;
+    private final PostLikeIndex postLikeIndex;
     private final StorageService storageService;
+    private final ValueCache<Long, PostView> posts;
 
     public FeedService(PostRepository postRepository, UserRepository userRepository,
             CommentRepository commentRepository, NotificationService notificationService,
-            ConnectionRepository connectionRepository, StorageService storageService) {
+            FeedTimelineService feedTimelineService, PostCounterService postCounterService,
+            PostLikeIndex postLikeIndex, StorageService storageService, CacheProvider cacheProvider) {
         this.postRepository = postRepository;
         this.userRepository = userRepository;
         this.commentRepository = commentRepository;
         this.notificationService = notificationService;
-        this.connectionRepository = connectionRepository;
+        this.feedTimelineService = feedTimelineService;
+        this.postCounterService = postCounterService;
+        this.postLikeIndex = postLikeIndex;
         this.storageService = storageService;
+        this.posts = cacheProvider.create("posts", PostView.class, new CacheSettings(Duration.ofMinutes(5), 50_000));
+        // Cached views hold the stored counters, which change on every flush.
+        postCounterService.onFlush(postIds -> postIds.forEach(posts::evict));
     }
 
-    public Post createPost(MultipartFile picture, String content, Long id) throws Exception {
+    @Transactional(rollbackOn = Exception.class)
+    public PostView createPost(MultipartFile picture, String content, Long id) throws Exception {
         User author = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
@@ -51,16 +79,21 @@ public class FeedService {
         post.setPicture(pictureUrl);
         post.setLikes(new HashSet<>());
 
-        notificationService.sendNewPostNotificationToFeed(post);
-
-        return postRepository.save(post);
+        Post savedPost = postRepository.save(post);
+        PostView view = toView(savedPost);
+        notificationService.sendNewPostNotificationToFeed(author.getId(), view);
+        feedTimelineService.fanOut(savedPost);
+        return view;
     }
 
-    public Post getPost(Long postId) {
-        return postRepository.findById(postId).orElseThrow(() -> new IllegalArgumentException("Post not found"));
+    public PostView getPost(Long postId) {
+        PostView post = posts.get(postId, key -> postRepository.findById(key).map(this::toStoredView)
+                .orElseThrow(() -> new IllegalArgumentException("Post not found")));
+        return withPendingCounts(post);
     }
 
-    public Post editPost(Long postId, Long id, MultipartFile picture, String content) throws Exception {
+    @Transactional(rollbackOn = Exception.class)
+    public PostView editPost(Long postId, Long id, MultipartFile picture, String content) throws Exception {
         Post post = postRepository.findById(postId).orElseThrow(() -> new IllegalArgumentException("Post not found"));
 
         User user = userRepository.findById(id)
@@ -75,11 +108,13 @@ public class FeedService {
         post.setContent(content);
         post.setPicture(pictureUrl);
 
-        notificationService.sendEditNotificationToPost(postId, post);
-
-        return postRepository.save(post);
+        PostView postView = toView(postRepository.save(post));
+        AfterCommit.run(() -> posts.evict(postId));
+        notificationService.sendEditNotificationToPost(postId, postView);
+        return postView;
     }
 
+    @Transactional
     public void deletePost(Long postId, Long userId) {
         Post post = postRepository.findById(postId).orElseThrow(() -> new IllegalArgumentException("Post not found"));
         User user = userRepository.findById(userId)
@@ -87,36 +122,71 @@ public class FeedService {
         if (!post.getAuthor().equals(user)) {
             throw new IllegalArgumentException("User is not the author of the post");
         }
-        notificationService.sendDeleteNotificationToPost(postId);
         postRepository.delete(post);
+        feedTimelineService.remove(post);
+        notificationService.sendDeleteNotificationToPost(postId);
+        AfterCommit.run(() -> {
+            posts.evict(postId);
+            postLikeIndex.evict(postId);
+        });
     }
 
-    public Post likePost(Long postId, Long userId) {
+    @Transactional
+    public LikeEvent likePost(Long postId, Long userId) {
         Post post = postRepository.findById(postId).orElseThrow(() -> new IllegalArgumentException("Post not found"));
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        if (post.getLikes().contains(user)) {
-            post.getLikes().remove(user);
-        } else {
-            post.getLikes().add(user);
+
+        long delta;
+        if (postRepository.deleteLike(postId, userId) > 0) {
+            delta = -1;
+        } else if (postRepository.insertLike(postId, userId) > 0) {
+            delta = 1;
             notificationService.sendLikeNotification(user, post.getAuthor(), post.getId());
+        } else {
+            // A concurrent request inserted the same like between our delete and insert, the post stays liked.
+            delta = 0;
         }
-        Post savedPost = postRepository.save(post);
-        notificationService.sendLikeToPost(postId, savedPost.getLikes());
-        return savedPost;
+        boolean liked = delta >= 0;
+
+        // The counter delta is only buffered on commit, so this transaction's own change is added here.
+        long likeCount = post.getLikeCount() + postCounterService.pendingLikes(postId) + delta;
+        LikeEvent likeEvent = new LikeEvent(postId, userId, user.getFirstName(), user.getLastName(), liked, likeCount);
+        if (delta != 0) {
+            postCounterService.addLikes(postId, delta);
+            AfterCommit.run(() -> postLikeIndex.onLikeToggled(postId, userId, liked));
+            notificationService.sendLikeToPost(postId, likeEvent);
+        }
+        return likeEvent;
     }
 
-    public Comment addComment(Long postId, Long userId, String content) {
+    @Transactional
+    public CommentView addComment(Long postId, Long userId, String content, Long parentCommentId) {
         Post post = postRepository.findById(postId).orElseThrow(() -> new IllegalArgumentException("Post not found"));
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        Comment comment = commentRepository.save(new Comment(post, user, content));
+        Comment parentComment = null;
+        if (parentCommentId != null) {
+            parentComment = commentRepository.findById(parentCommentId)
+                    .orElseThrow(() -> new IllegalArgumentException("Comment not found"));
+            if (!parentComment.getPost().getId().equals(postId)) {
+                throw new IllegalArgumentException("Comment does not belong to the post");
+            }
+            // Replies are one level deep, a reply to a reply is attached to the top-level comment.
+            if (parentComment.getParentComment() != null) {
+                parentComment = parentComment.getParentComment();
+            }
+        }
+        Comment comment = commentRepository.save(new Comment(post, user, content, parentComment));
+        postCounterService.addComments(postId, 1);
+        CommentView commentView = CommentView.of(comment);
         notificationService.sendCommentNotification(user, post.getAuthor(), post.getId());
-        notificationService.sendCommentToPost(postId, comment);
-        return comment;
+        notificationService.sendCommentToPost(postId, commentView);
+        return commentView;
     }
 
-    public Comment editComment(Long commentId, Long userId, String newContent) {
+    @Transactional
+    public CommentView editComment(Long commentId, Long userId, String newContent) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("Comment not found"));
         User user = userRepository.findById(userId)
@@ -125,11 +195,12 @@ public class FeedService {
             throw new IllegalArgumentException("User is not the author of the comment");
         }
         comment.setContent(newContent);
-        Comment savedComment = commentRepository.save(comment);
-        notificationService.sendCommentToPost(savedComment.getPost().getId(), savedComment);
-        return savedComment;
+        CommentView commentView = CommentView.of(commentRepository.save(comment));
+        notificationService.sendCommentToPost(comment.getPost().getId(), commentView);
+        return commentView;
     }
 
+    @Transactional
     public void deleteComment(Long commentId, Long userId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("Comment not found"));
@@ -138,39 +209,102 @@ public class FeedService {
         if (!comment.getAuthor().equals(user)) {
             throw new IllegalArgumentException("User is not the author of the comment");
         }
+        long replyCount = comment.getParentComment() == null ? commentRepository.countByParentCommentId(commentId) : 0;
         commentRepository.delete(comment);
-        notificationService.sendDeleteCommentToPost(comment.getPost().getId(), comment);
+        postCounterService.addComments(comment.getPost().getId(), -1 - (int) replyCount);
+        notificationService.sendDeleteCommentToPost(comment.getPost().getId(), CommentView.of(comment, replyCount));
     }
 
-    public List<Post> getPostsByUserId(Long userId) {
-        return postRepository.findByAuthorId(userId);
+    public List<PostView> getPostsByUserId(Long userId) {
+        return postRepository.findByAuthorIdOrderByCreationDateDesc(userId).stream().map(this::toView).toList();
     }
 
-    public List<Post> getFeedPosts(Long authenticatedUserId) {
-        List<Connection> connections = connectionRepository.findByAuthorIdAndStatusOrRecipientIdAndStatus(
-                authenticatedUserId, Status.ACCEPTED, authenticatedUserId, Status.ACCEPTED);
+    public List<PostView> getFeedPosts(Long authenticatedUserId, LocalDateTime before, Long beforeId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+        List<Long> postIds = feedTimelineService.getFeedPostIds(authenticatedUserId, before, beforeId, pageSize);
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
 
-        Set<Long> connectedUserIds = connections.stream()
-                .map(connection -> connection.getAuthor().getId().equals(authenticatedUserId)
-                        ? connection.getRecipient().getId()
-                        : connection.getAuthor().getId())
-                .collect(Collectors.toSet());
+        Map<Long, Post> postsById = postRepository.findByIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
 
-        return postRepository.findByAuthorIdInOrderByCreationDateDesc(connectedUserIds);
+        return postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .map(this::toView)
+                .toList();
     }
 
-    public List<Post> getAllPosts() {
-        return postRepository.findAllByOrderByCreationDateDesc();
+    public List<PostView> getAllPosts() {
+        return postRepository.findAllByOrderByCreationDateDesc().stream().map(this::toView).toList();
     }
 
-    public List<Comment> getPostComments(Long postId) {
-        Post post = postRepository.findById(postId).orElseThrow(() -> new IllegalArgumentException("Post not found"));
-        return post.getComments();
+    public List<CommentView> getPostComments(Long postId, LocalDateTime before, Long beforeId, int size) {
+        if (!postRepository.existsById(postId)) {
+            throw new IllegalArgumentException("Post not found");
+        }
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(size, MAX_COMMENTS_PAGE_SIZE)));
+        List<Comment> comments = before == null || beforeId == null
+                ? commentRepository.findTopLevelComments(postId, page)
+                : commentRepository.findTopLevelCommentsBefore(postId, before, beforeId, page);
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Long> replyCounts = commentRepository.countReplies(comments.stream().map(Comment::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(ReplyCount::parentCommentId, ReplyCount::count));
+        return comments.stream()
+                .map(comment -> CommentView.of(comment, replyCounts.getOrDefault(comment.getId(), 0L)))
+                .toList();
     }
 
-    public Set<User> getPostLikes(Long postId) {
-        Post post = postRepository.findById(postId).orElseThrow(() -> new IllegalArgumentException("Post not found"));
-        return post.getLikes();
+    public List<CommentView> getCommentReplies(Long commentId, LocalDateTime after, Long afterId, int size) {
+        if (!commentRepository.existsById(commentId)) {
+            throw new IllegalArgumentException("Comment not found");
+        }
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(size, MAX_COMMENTS_PAGE_SIZE)));
+        List<Comment> replies = after == null || afterId == null
+                ? commentRepository.findReplies(commentId, page)
+                : commentRepository.findRepliesAfter(commentId, after, afterId, page);
+        return replies.stream().map(CommentView::of).toList();
     }
 
-}
\ No newline at end of file
+    public List<UserSummary> getPostLikes(Long postId, Long afterId, int size) {
+        if (!postRepository.existsById(postId)) {
+            throw new IllegalArgumentException("Post not found");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_LIKERS_PAGE_SIZE));
+        return postRepository.findLikers(postId, afterId != null ? afterId : 0L, PageRequest.of(0, pageSize));
+    }
+
+    public List<LikeSummary> getLikeSummaries(List<Long> postIds, Long userId) {
+        List<Long> distinctPostIds = postIds.stream().distinct().toList();
+        if (distinctPostIds.size() > MAX_LIKE_SUMMARY_POSTS) {
+            throw new IllegalArgumentException("Too many posts, at most " + MAX_LIKE_SUMMARY_POSTS + " are allowed.");
+        }
+        return postLikeIndex.summarize(distinctPostIds, userId);
+    }
+
+    private PostView toView(Post post) {
+        return withPendingCounts(toStoredView(post));
+    }
+
+    private PostView toStoredView(Post post) {
+        return new PostView(
+                post.getId(),
+                post.getContent(),
+                post.getPicture(),
+                UserSummary.of(post.getAuthor()),
+                post.getLikeCount(),
+                post.getCommentCount(),
+                post.getCreationDate(),
+                post.getUpdatedDate());
+    }
+
+    private PostView withPendingCounts(PostView post) {
+        return post.withAddedCounts(postCounterService.pendingLikes(post.id()),
+                postCounterService.pendingComments(post.id()));
+    }
+}
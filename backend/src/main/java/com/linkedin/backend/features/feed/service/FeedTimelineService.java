@@ -0,0 +1,188 @@
+package com.linkedin.backend.features.feed.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.backend.features.feed.dto.PostKey;
+import com.linkedin.backend.features.feed.model.Post;
+import com.linkedin.backend.features.feed.repository.PostRepository;
+import com.linkedin.backend.features.feed.utils.FeedTimeline;
+import com.linkedin.backend.features.networking.model.Status;
+import com.linkedin.backend.features.networking.repository.ConnectionRepository;
+import com.linkedin.backend.features.networking.service.SocialGraphIndex;
+import com.linkedin.backend.utils.AfterCommit;
+
+/**
+ * Materialized per-reader feed timelines.
+ * <p>
+ * New posts are pushed to the cached timelines of the author's connections (fan-out-on-write).
+ * Authors with more than {@link #FAN_OUT_LIMIT} connections are never pushed; their posts are pulled
+ * and merged in at read time instead (fan-out-on-read), which caps the cost of a single write.
+ * Timelines are built lazily from the database on first read and dropped whenever the reader's
+ * connections change. Pushes and removals resolve followers from the {@link SocialGraphIndex}, only
+ * run once the post's transaction commits, and wait for a timeline that is being loaded.
+ */
+@Service
+public class FeedTimelineService {
+    static final int TIMELINE_CAPACITY = 500;
+    static final int FAN_OUT_LIMIT = 1000;
+    private static final int MAX_CACHED_TIMELINES = 10_000;
+
+    private final PostRepository postRepository;
+    private final ConnectionRepository connectionRepository;
+    private final SocialGraphIndex socialGraphIndex;
+    private final Cache<Long, FeedTimeline> timelines = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_TIMELINES)
+            .expireAfterAccess(Duration.ofHours(6))
+            .build();
+    private final Set<Long> pullAuthorIds = ConcurrentHashMap.newKeySet();
+    private final AtomicLong pullGeneration = new AtomicLong();
+
+    public FeedTimelineService(PostRepository postRepository, ConnectionRepository connectionRepository,
+                               SocialGraphIndex socialGraphIndex) {
+        this.postRepository = postRepository;
+        this.connectionRepository = connectionRepository;
+        this.socialGraphIndex = socialGraphIndex;
+    }
+
+    public void fanOut(Post post) {
+        Long authorId = post.getAuthor().getId();
+        PostKey key = new PostKey(post.getId(), post.getCreationDate());
+        AfterCommit.run(() -> push(authorId, key));
+    }
+
+    /**
+     * Drops a deleted post from the pushed timelines, so feed pages are not cut short by ids that no longer load.
+     */
+    public void remove(Post post) {
+        Long authorId = post.getAuthor().getId();
+        long postId = post.getId();
+        AfterCommit.run(() -> {
+            for (long followerId : socialGraphIndex.connectedUserIds(authorId)) {
+                timelines.asMap().computeIfPresent(followerId, (id, timeline) -> {
+                    timeline.remove(postId);
+                    return timeline;
+                });
+            }
+        });
+    }
+
+    /**
+     * Drops the timelines holding posts of a deleted author, they are rebuilt without them on the next read.
+     * Followers are resolved now, before the author's connections are deleted.
+     */
+    public void evictFollowersOf(Long authorId) {
+        long[] followerIds = socialGraphIndex.connectedUserIds(authorId);
+        AfterCommit.run(() -> timelines.invalidateAll(Arrays.stream(followerIds).boxed().toList()));
+    }
+
+    private void push(Long authorId, PostKey key) {
+        if (pullAuthorIds.contains(authorId)) {
+            return;
+        }
+
+        long[] followerIds = socialGraphIndex.connectedUserIds(authorId);
+        if (followerIds.length > FAN_OUT_LIMIT) {
+            // Once an author is pulled, their posts are no longer in any pushed timeline, so they stay pulled.
+            pullAuthorIds.add(authorId);
+            pullGeneration.incrementAndGet();
+            return;
+        }
+
+        for (long followerId : followerIds) {
+            // computeIfPresent waits for a timeline being loaded, whose snapshot may predate this post.
+            timelines.asMap().computeIfPresent(followerId, (id, timeline) -> {
+                timeline.push(key);
+                return timeline;
+            });
+        }
+    }
+
+    public void evictTimelines(Long... userIds) {
+        timelines.invalidateAll(Arrays.asList(userIds));
+    }
+
+    public List<Long> getFeedPostIds(Long userId, LocalDateTime before, Long beforeId, int size) {
+        FeedTimeline timeline = timelines.get(userId, this::loadTimeline);
+        List<PostKey> keys = timeline.page(before, beforeId, size);
+
+        if (keys.size() < size && timeline.isTruncated()) {
+            return readThrough(userId, before, beforeId, size);
+        }
+
+        long[] pulledAuthors = resolvePullAuthors(userId, timeline);
+        if (pulledAuthors.length > 0) {
+            List<Long> authorIds = Arrays.stream(pulledAuthors).boxed().toList();
+            List<PostKey> pulled = before == null || beforeId == null
+                    ? postRepository.findFeedKeys(authorIds, PageRequest.of(0, size))
+                    : postRepository.findFeedKeysBefore(authorIds, before, beforeId, PageRequest.of(0, size));
+            keys = merge(keys, pulled, size);
+        }
+
+        return keys.stream().map(PostKey::id).toList();
+    }
+
+    private FeedTimeline loadTimeline(Long userId) {
+        List<Long> connectedUserIds = connectionRepository.findConnectedUserIds(userId, Status.ACCEPTED);
+        if (connectedUserIds.isEmpty()) {
+            return new FeedTimeline(TIMELINE_CAPACITY);
+        }
+        return FeedTimeline.of(postRepository.findFeedKeys(connectedUserIds, PageRequest.of(0, TIMELINE_CAPACITY)),
+                TIMELINE_CAPACITY);
+    }
+
+    private List<Long> readThrough(Long userId, LocalDateTime before, Long beforeId, int size) {
+        List<Long> connectedUserIds = connectionRepository.findConnectedUserIds(userId, Status.ACCEPTED);
+        if (connectedUserIds.isEmpty()) {
+            return List.of();
+        }
+        List<PostKey> keys = before == null || beforeId == null
+                ? postRepository.findFeedKeys(connectedUserIds, PageRequest.of(0, size))
+                : postRepository.findFeedKeysBefore(connectedUserIds, before, beforeId, PageRequest.of(0, size));
+        return keys.stream().map(PostKey::id).toList();
+    }
+
+    private long[] resolvePullAuthors(Long userId, FeedTimeline timeline) {
+        long generation = pullGeneration.get();
+        if (timeline.getPullGeneration() != generation) {
+            long[] connectedPullAuthors = pullAuthorIds.isEmpty()
+                    ? new long[0]
+                    : connectionRepository.findConnectedUserIdsAmong(userId, Status.ACCEPTED, pullAuthorIds)
+                            .stream().mapToLong(Long::longValue).toArray();
+            timeline.setPullAuthorIds(connectedPullAuthors, generation);
+        }
+        return timeline.getPullAuthorIds();
+    }
+
+    private List<PostKey> merge(List<PostKey> pushed, List<PostKey> pulled, int size) {
+        List<PostKey> merged = new ArrayList<>(pushed.size() + pulled.size());
+        merged.addAll(pushed);
+        merged.addAll(pulled);
+        merged.sort(Comparator.comparing(PostKey::creationDate).thenComparing(PostKey::id).reversed());
+
+        Set<Long> seen = new HashSet<>();
+        List<PostKey> page = new ArrayList<>(size);
+        for (PostKey key : merged) {
+            if (page.size() == size) {
+                break;
+            }
+            if (seen.add(key.id())) {
+                page.add(key);
+            }
+        }
+        return page;
+    }
+}
@@ -0,0 +1,118 @@
+package com.linkedin.backend.features.feed.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.linkedin.backend.utils.AfterCommit;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-behind buffer for the denormalized like and comment counters on posts.
+ * <p>
+ * Increments are coalesced per post in memory and flushed as a single JDBC batch every second, so a
+ * like storm on one post costs one UPDATE per flush instead of one per like. The {@code posts_likes}
+ * and {@code comments} tables stay the source of truth; a crash only loses the last unflushed deltas.
+ * Deltas are only buffered once the write that caused them commits, and a failed flush puts its batch back.
+ */
+@Service
+public class PostCounterService {
+    private static final Logger logger = LoggerFactory.getLogger(PostCounterService.class);
+    private static final String FLUSH_SQL =
+            "UPDATE posts SET like_count = like_count + ?, comment_count = comment_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<Long, CounterDelta> pending = new ConcurrentHashMap<>();
+    private final List<Consumer<List<Long>>> flushListeners = new CopyOnWriteArrayList<>();
+
+    public PostCounterService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void addLikes(Long postId, long delta) {
+        AfterCommit.run(() -> pending.merge(postId, new CounterDelta(delta, 0), CounterDelta::plus));
+    }
+
+    public void addComments(Long postId, long delta) {
+        AfterCommit.run(() -> pending.merge(postId, new CounterDelta(0, delta), CounterDelta::plus));
+    }
+
+    public long pendingLikes(Long postId) {
+        CounterDelta delta = pending.get(postId);
+        return delta == null ? 0 : delta.likes();
+    }
+
+    public long pendingComments(Long postId) {
+        CounterDelta delta = pending.get(postId);
+        return delta == null ? 0 : delta.comments();
+    }
+
+    /**
+     * Registers a callback receiving the ids of the posts whose stored counters were just updated.
+     */
+    public void onFlush(Consumer<List<Long>> listener) {
+        flushListeners.add(listener);
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        for (Long postId : pending.keySet()) {
+            CounterDelta delta = pending.remove(postId);
+            if (delta != null && !delta.isEmpty()) {
+                batch.add(new Object[]{delta.likes(), delta.comments(), postId});
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            try {
+                // One transaction, so a failed batch has applied none of its deltas and can be put back whole.
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+            } catch (RuntimeException e) {
+                for (Object[] row : batch) {
+                    pending.merge((Long) row[2], new CounterDelta((long) row[0], (long) row[1]), CounterDelta::plus);
+                }
+                throw e;
+            }
+            logger.debug("Flushed counters for {} posts.", batch.size());
+            List<Long> postIds = batch.stream().map(row -> (Long) row[2]).toList();
+            flushListeners.forEach(listener -> listener.accept(postIds));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            logger.error("Error while flushing post counters: {}", e.getMessage());
+        }
+    }
+
+    private record CounterDelta(long likes, long comments) {
+        CounterDelta plus(CounterDelta other) {
+            return new CounterDelta(likes + other.likes, comments + other.comments);
+        }
+
+        boolean isEmpty() {
+            return likes == 0 && comments == 0;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.linkedin.backend.features.feed.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.backend.features.feed.dto.LikeSummary;
+import com.linkedin.backend.features.feed.dto.PostLiker;
+import com.linkedin.backend.features.feed.repository.PostRepository;
+
+/**
+ * Compressed bitmap of liker ids per post, kept in a cache bounded by the bitmaps' memory footprint.
+ * Answers "how many likes" and "did I like it" for a whole page of posts with at most one query
+ * for the posts that are not cached yet.
+ * <p>
+ * Toggles are applied through the cache so the entry is weighed again. A bitmap whose load raced with a toggle
+ * of the same post is dropped after the load, as its query may have missed the toggle.
+ */
+@Service
+public class PostLikeIndex {
+    private static final long MAX_CACHE_BYTES = 64L * 1024 * 1024;
+
+    private final PostRepository postRepository;
+    private final Cache<Long, Roaring64Bitmap> likers = Caffeine.newBuilder()
+            .maximumWeight(MAX_CACHE_BYTES)
+            .weigher((Long postId, Roaring64Bitmap bitmap) -> (int) Math.min(Integer.MAX_VALUE, bitmap.getLongSizeInBytes()))
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+    private final AtomicLong toggleSequence = new AtomicLong();
+    private final Cache<Long, Long> recentToggles = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    public PostLikeIndex(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    public List<LikeSummary> summarize(Collection<Long> postIds, Long userId) {
+        long loadStart = toggleSequence.get();
+        Set<Long> loaded = ConcurrentHashMap.newKeySet();
+        Map<Long, Roaring64Bitmap> bitmaps = likers.getAll(postIds, missing -> {
+            loaded.addAll(missing);
+            return load(missing);
+        });
+        for (Long postId : loaded) {
+            Long toggledAt = recentToggles.getIfPresent(postId);
+            if (toggledAt != null && toggledAt > loadStart) {
+                likers.invalidate(postId);
+            }
+        }
+        return postIds.stream()
+                .map(postId -> {
+                    Roaring64Bitmap bitmap = bitmaps.get(postId);
+                    synchronized (bitmap) {
+                        return new LikeSummary(postId, bitmap.getLongCardinality(), bitmap.contains(userId));
+                    }
+                })
+                .toList();
+    }
+
+    public void onLikeToggled(Long postId, Long userId, boolean liked) {
+        recentToggles.put(postId, toggleSequence.incrementAndGet());
+        likers.asMap().computeIfPresent(postId, (id, bitmap) -> {
+            synchronized (bitmap) {
+                if (liked) {
+                    bitmap.addLong(userId);
+                } else {
+                    bitmap.removeLong(userId);
+                }
+            }
+            return bitmap;
+        });
+    }
+
+    public void evict(Long postId) {
+        likers.invalidate(postId);
+    }
+
+    private Map<Long, Roaring64Bitmap> load(Set<? extends Long> postIds) {
+        Map<Long, Roaring64Bitmap> bitmaps = new HashMap<>();
+        for (Long postId : postIds) {
+            bitmaps.put(postId, new Roaring64Bitmap());
+        }
+        for (PostLiker liker : postRepository.findLikerIds(postIds)) {
+            bitmaps.get(liker.postId()).addLong(liker.userId());
+        }
+        bitmaps.values().forEach(Roaring64Bitmap::runOptimize);
+        return bitmaps;
+    }
+}
@@ -0,0 +1,143 @@
+package com.linkedin.backend.features.feed.utils;
+
+import com.linkedin.backend.features.feed.dto.PostKey;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded, newest-first buffer of the posts pushed to one reader's feed.
+ * Entries are kept in (creationDate, id) descending order, the same order as the keyset feed query,
+ * so a page read from the buffer can be merged with, or replaced by, a page read from the database.
+ */
+public class FeedTimeline {
+    private final int capacity;
+    private final long[] timestamps;
+    private final long[] postIds;
+    private int size;
+    private boolean truncated;
+
+    private volatile long[] pullAuthorIds = new long[0];
+    private volatile long pullGeneration = -1;
+
+    public FeedTimeline(int capacity) {
+        this.capacity = capacity;
+        this.timestamps = new long[capacity];
+        this.postIds = new long[capacity];
+    }
+
+    public static FeedTimeline of(List<PostKey> newestFirst, int capacity) {
+        FeedTimeline timeline = new FeedTimeline(capacity);
+        for (PostKey key : newestFirst) {
+            if (timeline.size == capacity) {
+                break;
+            }
+            timeline.timestamps[timeline.size] = toEpochMicros(key.creationDate());
+            timeline.postIds[timeline.size] = key.id();
+            timeline.size++;
+        }
+        timeline.truncated = newestFirst.size() >= capacity;
+        return timeline;
+    }
+
+    public synchronized void push(PostKey key) {
+        long timestamp = toEpochMicros(key.creationDate());
+        int index = indexOfFirstOlderThan(timestamp, key.id());
+        if (index > 0 && timestamps[index - 1] == timestamp && postIds[index - 1] == key.id()) {
+            return;
+        }
+        if (index == capacity) {
+            truncated = true;
+            return;
+        }
+        int moved = Math.min(size, capacity - 1) - index;
+        if (moved > 0) {
+            System.arraycopy(timestamps, index, timestamps, index + 1, moved);
+            System.arraycopy(postIds, index, postIds, index + 1, moved);
+        }
+        timestamps[index] = timestamp;
+        postIds[index] = key.id();
+        if (size == capacity) {
+            truncated = true;
+        } else {
+            size++;
+        }
+    }
+
+    public synchronized void remove(long postId) {
+        for (int i = 0; i < size; i++) {
+            if (postIds[i] == postId) {
+                System.arraycopy(timestamps, i + 1, timestamps, i, size - i - 1);
+                System.arraycopy(postIds, i + 1, postIds, i, size - i - 1);
+                size--;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} entries strictly older than the (before, beforeId) cursor, newest first.
+     * A null cursor starts from the newest entry.
+     */
+    public synchronized List<PostKey> page(LocalDateTime before, Long beforeId, int limit) {
+        int from = before == null || beforeId == null ? 0 : indexOfFirstOlderThan(toEpochMicros(before), beforeId);
+        int to = Math.min(size, from + limit);
+        List<PostKey> page = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            page.add(new PostKey(postIds[i], fromEpochMicros(timestamps[i])));
+        }
+        return page;
+    }
+
+    /**
+     * Whether older posts than the last buffered entry may exist; if so, a short page must be completed
+     * from the database.
+     */
+    public synchronized boolean isTruncated() {
+        return truncated;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public long[] getPullAuthorIds() {
+        return pullAuthorIds;
+    }
+
+    public long getPullGeneration() {
+        return pullGeneration;
+    }
+
+    public void setPullAuthorIds(long[] pullAuthorIds, long pullGeneration) {
+        this.pullAuthorIds = pullAuthorIds;
+        this.pullGeneration = pullGeneration;
+    }
+
+    private int indexOfFirstOlderThan(long timestamp, long postId) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            boolean newerOrEqual = timestamps[mid] > timestamp
+                    || (timestamps[mid] == timestamp && postIds[mid] >= postId);
+            if (newerOrEqual) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public static long toEpochMicros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), dateTime);
+    }
+
+    public static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC).plus(micros, ChronoUnit.MICROS);
+    }
+}
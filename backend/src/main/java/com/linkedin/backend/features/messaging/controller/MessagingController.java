@@ -1,22 +1,44 @@
 package com.linkedin.backend.features.messaging.controller;
 
 import com.linkedin.backend.dto.Response;
+import com.linkedin.backend.features.authentication.dto.UserPrincipal;
 import com.linkedin.backend.features.authentication.model.User;
+import com.linkedin.backend.features.messaging.dto.InboxSummary;
 import com.linkedin.backend.features.messaging.dto.MessageDto;
+import com.linkedin.backend.features.messaging.dto.MessageHistory;
+import com.linkedin.backend.features.messaging.dto.MessageView;
 import com.linkedin.backend.features.messaging.model.Conversation;
-import com.linkedin.backend.features.messaging.model.Message;
+import com.linkedin.backend.features.messaging.service.InboxService;
 import com.linkedin.backend.features.messaging.service.MessagingService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/messaging")
 public class MessagingController {
     private final MessagingService messagingService;
+    private final InboxService inboxService;
 
-    public MessagingController(MessagingService messagingService) {
+    public MessagingController(MessagingService messagingService, InboxService inboxService) {
         this.messagingService = messagingService;
+        this.inboxService = inboxService;
+    }
+
+    @GetMapping("/inbox")
+    public List<InboxSummary> getInbox(@RequestAttribute("authenticatedPrincipal") UserPrincipal principal,
+                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+                                       @RequestParam(required = false) Long beforeId,
+                                       @RequestParam(required = false, defaultValue = "20") Integer size) {
+        return inboxService.getInbox(principal.id(), before, beforeId, size);
+    }
+
+    @GetMapping("/inbox/unread")
+    public long getUnreadCount(@RequestAttribute("authenticatedPrincipal") UserPrincipal principal) {
+        return inboxService.getUnreadCount(principal.id());
     }
 
     @GetMapping("/conversations")
@@ -29,17 +51,39 @@ public class MessagingController {
         return messagingService.getConversation(user, conversationId);
     }
 
+    @GetMapping("/conversations/{conversationId}/messages")
+    public MessageHistory getMessages(@RequestAttribute("authenticatedPrincipal") UserPrincipal principal,
+                                      @PathVariable Long conversationId,
+                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+                                      @RequestParam(required = false) Long beforeId,
+                                      @RequestParam(required = false, defaultValue = "20") Integer size) {
+        return messagingService.getMessages(principal.id(), conversationId, before, beforeId, size);
+    }
+
+    @GetMapping("/conversations/with/{userId}")
+    public ResponseEntity<Conversation> getConversationWith(@RequestAttribute("authenticatedPrincipal") UserPrincipal principal,
+                                                            @PathVariable Long userId) {
+        return ResponseEntity.of(messagingService.findConversationWith(principal.id(), userId));
+    }
+
     @PostMapping("/conversations")
-    public Conversation createConversationAndAddMessage(@RequestAttribute("authenticatedUser") User sender, @RequestBody MessageDto messageDto) {
-        return messagingService.createConversationAndAddMessage(sender, messageDto.receiverId(), messageDto.content());
+    public Conversation createConversationAndAddMessage(@RequestAttribute("authenticatedPrincipal") UserPrincipal principal, @RequestBody MessageDto messageDto) {
+        return messagingService.createConversationAndAddMessage(principal.id(), messageDto.receiverId(), messageDto.content());
     }
 
     @PostMapping("/conversations/{conversationId}/messages")
-    public Message addMessageToConversation(@RequestAttribute("authenticatedUser") User sender, @RequestBody MessageDto messageDto, @PathVariable Long conversationId) {
-        return messagingService.addMessageToConversation(conversationId, sender, messageDto.receiverId(),
+    public MessageView addMessageToConversation(@RequestAttribute("authenticatedPrincipal") UserPrincipal principal, @RequestBody MessageDto messageDto, @PathVariable Long conversationId) {
+        return messagingService.addMessageToConversation(conversationId, principal.id(), messageDto.receiverId(),
                 messageDto.content());
     }
 
+    @PutMapping("/conversations/{conversationId}/read")
+    public Response markConversationAsRead(@RequestAttribute("authenticatedPrincipal") UserPrincipal principal,
+                                           @PathVariable Long conversationId, @RequestParam Long upTo) {
+        messagingService.markConversationAsRead(principal.id(), conversationId, upTo);
+        return new Response("Conversation marked as read");
+    }
+
     @PutMapping("/conversations/messages/{messageId}")
     public Response markMessageAsRead(@RequestAttribute("authenticatedUser") User user, @PathVariable Long messageId) {
         messagingService.markMessageAsRead(user, messageId);
@@ -0,0 +1,8 @@
+package com.linkedin.backend.features.messaging.dto;
+
+import java.time.LocalDateTime;
+
+public record InboxSummary(Long conversationId, Long userId, String firstName, String lastName, String position,
+                           String profilePicture, Long lastMessageId, String lastMessageSnippet,
+                           LocalDateTime lastMessageAt, long unreadCount) {
+}
@@ -0,0 +1,12 @@
+package com.linkedin.backend.features.messaging.dto;
+
+import com.linkedin.backend.features.authentication.dto.UserSummary;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of messages, newest first. Messages carry participant ids, the participants are sent once.
+ */
+public record MessageHistory(List<MessageView> messages, Map<Long, UserSummary> participants) {
+}
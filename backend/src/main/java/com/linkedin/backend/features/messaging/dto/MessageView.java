@@ -0,0 +1,17 @@
+package com.linkedin.backend.features.messaging.dto;
+
+import com.linkedin.backend.features.messaging.model.Message;
+
+import java.time.LocalDateTime;
+
+public record MessageView(Long id, Long senderId, Long receiverId, String content, Boolean isRead,
+                          LocalDateTime createdAt) {
+    public static MessageView of(Message message) {
+        return new MessageView(message.getId(), message.getSenderId(), message.getReceiverId(), message.getContent(),
+                message.getIsRead(), message.getCreatedAt());
+    }
+
+    public MessageView asRead() {
+        return new MessageView(id, senderId, receiverId, content, true, createdAt);
+    }
+}
@@ -0,0 +1,7 @@
+package com.linkedin.backend.features.messaging.dto;
+
+/**
+ * Everything sent to {@code readerId} in the conversation, up to and including {@code upToMessageId}, is read.
+ */
+public record ReadReceipt(Long conversationId, Long readerId, Long upToMessageId) {
+}
@@ -3,17 +3,26 @@ package com.linkedin.backend.features.messaging.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.linkedin.backend.features.authentication.model.User;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 @Entity(name = "conversations")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_conversations_low_user_id_high_user_id", columnNames = {"low_user_id", "high_user_id"}),
+        indexes = @Index(name = "idx_conversations_high_user_id", columnList = "high_user_id"))
 public class Conversation {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,6 +34,18 @@ public class Conversation {
     @ManyToOne(optional = false)
     private User recipient;
 
+    /**
+     * The two participant ids in increasing order, so a pair has one conversation whoever wrote first.
+     */
+    @JsonIgnore
+    @Column(name = "low_user_id", nullable = false)
+    private Long lowUserId;
+
+    @JsonIgnore
+    @Column(name = "high_user_id", nullable = false)
+    private Long highUserId;
+
+    @JsonIgnore
     @OneToMany(mappedBy = "conversation", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Message> messages = new ArrayList<>();
 
@@ -34,6 +55,18 @@ public class Conversation {
     public Conversation(User author, User recipient) {
         this.author = author;
         this.recipient = recipient;
+        updatePairKey();
+    }
+
+    @PrePersist
+    @PreUpdate
+    private void updatePairKey() {
+        lowUserId = Math.min(author.getId(), recipient.getId());
+        highUserId = Math.max(author.getId(), recipient.getId());
+    }
+
+    public boolean hasParticipant(Long userId) {
+        return userId.equals(lowUserId) || userId.equals(highUserId);
     }
 
     public Long getId() {
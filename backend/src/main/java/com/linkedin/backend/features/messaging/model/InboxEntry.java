@@ -0,0 +1,77 @@
+package com.linkedin.backend.features.messaging.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * One user's view of a conversation in their inbox, kept in step with its messages by InboxService.
+ */
+@Entity(name = "inbox_entries")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_inbox_entries_user_id_conversation_id", columnNames = {"user_id", "conversation_id"}),
+        indexes = @Index(name = "idx_inbox_entries_user_last_message_at_conversation", columnList = "user_id, last_message_at, conversation_id"))
+public class InboxEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "conversation_id", nullable = false)
+    private Long conversationId;
+
+    @Column(name = "other_user_id", nullable = false)
+    private Long otherUserId;
+
+    private Long lastMessageId;
+
+    private String lastMessageSnippet;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    private long unreadCount;
+
+    public InboxEntry() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getConversationId() {
+        return conversationId;
+    }
+
+    public Long getOtherUserId() {
+        return otherUserId;
+    }
+
+    public Long getLastMessageId() {
+        return lastMessageId;
+    }
+
+    public String getLastMessageSnippet() {
+        return lastMessageSnippet;
+    }
+
+    public LocalDateTime getLastMessageAt() {
+        return lastMessageAt;
+    }
+
+    public long getUnreadCount() {
+        return unreadCount;
+    }
+}
@@ -11,17 +11,22 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 
 @Entity(name = "messages")
+@Table(indexes = @Index(name = "idx_messages_conversation_created_at_id", columnList = "conversation_id, created_at, id"))
 public class Message {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @JsonIgnore
     @ManyToOne(optional = false)
     private User sender;
 
+    @JsonIgnore
     @ManyToOne(optional = false)
     private User receiver;
 
@@ -62,6 +67,10 @@ public class Message {
         this.receiver = receiver;
     }
 
+    public Long getReceiverId() {
+        return receiver.getId();
+    }
+
     public User getSender() {
         return sender;
     }
@@ -70,6 +79,10 @@ public class Message {
         this.sender = sender;
     }
 
+    public Long getSenderId() {
+        return sender.getId();
+    }
+
     public String getContent() {
         return content;
     }
@@ -1,8 +1,12 @@
 package com.linkedin.backend.features.messaging.repository;
 
-import com.linkedin.backend.features.authentication.model.User;
 import com.linkedin.backend.features.messaging.model.Conversation;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,7 +14,29 @@ import java.util.Optional;
 
 @Repository
 public interface ConversationRepository extends JpaRepository<Conversation, Long> {
-    Optional<Conversation> findByAuthorAndRecipient(User author, User recipient);
+    Optional<Conversation> findByLowUserIdAndHighUserId(Long lowUserId, Long highUserId);
 
-    List<Conversation> findByAuthorOrRecipient(User userOne, User userTwo);
-}
\ No newline at end of file
+    boolean existsByIdAndLowUserIdAndHighUserId(Long id, Long lowUserId, Long highUserId);
+
+    /**
+     * A locking read sees rows committed after the transaction's snapshot, including a conversation a concurrent
+     * request just created for the pair.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT c FROM conversations c WHERE c.lowUserId = :lowUserId AND c.highUserId = :highUserId")
+    Optional<Conversation> findCommittedByPair(@Param("lowUserId") Long lowUserId,
+                                               @Param("highUserId") Long highUserId);
+
+    @Query("SELECT c FROM conversations c WHERE c.lowUserId = :userId OR c.highUserId = :userId")
+    List<Conversation> findByParticipant(@Param("userId") Long userId);
+
+    /**
+     * Creates the pair's conversation unless one already exists. A concurrent insert for the same pair hits the
+     * unique (low_user_id, high_user_id) key and becomes a no-op instead of a duplicate or an error.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO conversations (author_id, recipient_id, low_user_id, high_user_id)"
+            + " VALUES (:authorId, :recipientId, LEAST(:authorId, :recipientId), GREATEST(:authorId, :recipientId))"
+            + " ON DUPLICATE KEY UPDATE id = id", nativeQuery = true)
+    void insertIfAbsent(@Param("authorId") Long authorId, @Param("recipientId") Long recipientId);
+}
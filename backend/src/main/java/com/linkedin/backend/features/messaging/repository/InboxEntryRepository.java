@@ -0,0 +1,60 @@
+package com.linkedin.backend.features.messaging.repository;
+
+import com.linkedin.backend.features.messaging.dto.InboxSummary;
+import com.linkedin.backend.features.messaging.model.InboxEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface InboxEntryRepository extends JpaRepository<InboxEntry, Long> {
+    String SUMMARY_QUERY = "SELECT new com.linkedin.backend.features.messaging.dto.InboxSummary(e.conversationId,"
+            + " u.id, u.firstName, u.lastName, u.position, u.profilePicture,"
+            + " e.lastMessageId, e.lastMessageSnippet, e.lastMessageAt, e.unreadCount)"
+            + " FROM inbox_entries e JOIN users u ON u.id = e.otherUserId WHERE e.userId = :userId";
+
+    /**
+     * Records a message in a user's entry, creating it on the first message. The last message only moves
+     * forward, so concurrent sends committing out of order keep the newest one.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO inbox_entries (user_id, conversation_id, other_user_id, last_message_id,"
+            + " last_message_snippet, last_message_at, unread_count)"
+            + " VALUES (:userId, :conversationId, :otherUserId, :messageId, :snippet, :sentAt, :unread)"
+            + " ON DUPLICATE KEY UPDATE unread_count = unread_count + :unread,"
+            + " last_message_snippet = IF(last_message_id < :messageId, :snippet, last_message_snippet),"
+            + " last_message_at = IF(last_message_id < :messageId, :sentAt, last_message_at),"
+            + " last_message_id = GREATEST(last_message_id, :messageId)", nativeQuery = true)
+    void recordMessage(@Param("userId") Long userId, @Param("conversationId") Long conversationId,
+                       @Param("otherUserId") Long otherUserId, @Param("messageId") Long messageId,
+                       @Param("snippet") String snippet, @Param("sentAt") LocalDateTime sentAt,
+                       @Param("unread") long unread);
+
+    @Modifying
+    @Query("UPDATE inbox_entries e SET e.unreadCount = CASE WHEN e.unreadCount > :count THEN e.unreadCount - :count"
+            + " ELSE 0 END WHERE e.userId = :userId AND e.conversationId = :conversationId")
+    void subtractUnread(@Param("userId") Long userId, @Param("conversationId") Long conversationId,
+                        @Param("count") long count);
+
+    @Query(SUMMARY_QUERY + " AND e.conversationId = :conversationId")
+    Optional<InboxSummary> findSummary(@Param("userId") Long userId, @Param("conversationId") Long conversationId);
+
+    @Query(SUMMARY_QUERY + " ORDER BY e.lastMessageAt DESC, e.conversationId DESC")
+    List<InboxSummary> findSummaries(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(SUMMARY_QUERY
+            + " AND (e.lastMessageAt < :before OR (e.lastMessageAt = :before AND e.conversationId < :beforeId))"
+            + " ORDER BY e.lastMessageAt DESC, e.conversationId DESC")
+    List<InboxSummary> findSummariesBefore(@Param("userId") Long userId,
+                                           @Param("before") LocalDateTime before,
+                                           @Param("beforeId") Long beforeId,
+                                           Pageable pageable);
+
+    @Query("SELECT COALESCE(SUM(e.unreadCount), 0) FROM inbox_entries e WHERE e.userId = :userId")
+    long sumUnread(@Param("userId") Long userId);
+}
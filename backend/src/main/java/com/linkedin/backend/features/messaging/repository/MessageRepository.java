@@ -1,8 +1,40 @@
 package com.linkedin.backend.features.messaging.repository;
 
+import com.linkedin.backend.features.messaging.dto.MessageView;
 import com.linkedin.backend.features.messaging.model.Message;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 
 public interface MessageRepository extends JpaRepository<Message, Long> {
-}
\ No newline at end of file
+    String VIEW_QUERY = "SELECT new com.linkedin.backend.features.messaging.dto.MessageView("
+            + "m.id, m.sender.id, m.receiver.id, m.content, m.isRead, m.createdAt) FROM messages m"
+            + " WHERE m.conversation.id = :conversationId";
+
+    @Query(VIEW_QUERY + " ORDER BY m.createdAt DESC, m.id DESC")
+    List<MessageView> findMessageViews(@Param("conversationId") Long conversationId, Pageable pageable);
+
+    @Query(VIEW_QUERY
+            + " AND (m.createdAt < :before OR (m.createdAt = :before AND m.id < :beforeId))"
+            + " ORDER BY m.createdAt DESC, m.id DESC")
+    List<MessageView> findMessageViewsBefore(@Param("conversationId") Long conversationId,
+                                             @Param("before") LocalDateTime before,
+                                             @Param("beforeId") Long beforeId,
+                                             Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE messages m SET m.isRead = true WHERE m.id = :id AND m.receiver.id = :receiverId AND m.isRead = false")
+    int markRead(@Param("id") Long id, @Param("receiverId") Long receiverId);
+
+    @Modifying
+    @Query("UPDATE messages m SET m.isRead = true WHERE m.conversation.id = :conversationId"
+            + " AND m.receiver.id = :receiverId AND m.isRead = false AND m.id <= :upToId")
+    int markReadUpTo(@Param("conversationId") Long conversationId, @Param("receiverId") Long receiverId,
+                     @Param("upToId") Long upToId);
+}
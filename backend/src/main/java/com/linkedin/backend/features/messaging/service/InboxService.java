@@ -0,0 +1,70 @@
+package com.linkedin.backend.features.messaging.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.linkedin.backend.features.messaging.dto.InboxSummary;
+import com.linkedin.backend.features.messaging.model.Message;
+import com.linkedin.backend.features.messaging.repository.InboxEntryRepository;
+import com.linkedin.backend.features.notifications.service.NotificationService;
+
+/**
+ * Keeps each participant's inbox entry, last message and unread count, in step with a conversation's messages
+ * so the inbox reads one row per conversation instead of its messages.
+ */
+@Service
+public class InboxService {
+    static final int SNIPPET_LENGTH = 100;
+    private static final int MAX_INBOX_PAGE_SIZE = 50;
+
+    private final InboxEntryRepository inboxEntryRepository;
+    private final NotificationService notificationService;
+
+    public InboxService(InboxEntryRepository inboxEntryRepository, NotificationService notificationService) {
+        this.inboxEntryRepository = inboxEntryRepository;
+        this.notificationService = notificationService;
+    }
+
+    public List<InboxSummary> getInbox(Long userId, LocalDateTime before, Long beforeId, int size) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(size, MAX_INBOX_PAGE_SIZE)));
+        return before == null || beforeId == null
+                ? inboxEntryRepository.findSummaries(userId, page)
+                : inboxEntryRepository.findSummariesBefore(userId, before, beforeId, page);
+    }
+
+    public long getUnreadCount(Long userId) {
+        return inboxEntryRepository.sumUnread(userId);
+    }
+
+    public void onMessageSent(Long conversationId, Message message) {
+        Long senderId = message.getSenderId();
+        Long receiverId = message.getReceiverId();
+        String snippet = snippet(message.getContent());
+        inboxEntryRepository.recordMessage(senderId, conversationId, receiverId, message.getId(), snippet,
+                message.getCreatedAt(), 0);
+        inboxEntryRepository.recordMessage(receiverId, conversationId, senderId, message.getId(), snippet,
+                message.getCreatedAt(), 1);
+        publish(senderId, conversationId);
+        publish(receiverId, conversationId);
+    }
+
+    public void onMessagesRead(Long userId, Long conversationId, long count) {
+        inboxEntryRepository.subtractUnread(userId, conversationId, count);
+        publish(userId, conversationId);
+    }
+
+    private void publish(Long userId, Long conversationId) {
+        inboxEntryRepository.findSummary(userId, conversationId)
+                .ifPresent(summary -> notificationService.sendInboxUpdateToUser(userId, summary));
+    }
+
+    private static String snippet(String content) {
+        if (content == null || content.length() <= SNIPPET_LENGTH) {
+            return content;
+        }
+        return content.substring(0, SNIPPET_LENGTH);
+    }
+}
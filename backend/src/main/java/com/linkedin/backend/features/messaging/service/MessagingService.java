@@ -1,11 +1,20 @@
 package com.linkedin.backend.features.messaging.service;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.linkedin.backend.features.authentication.dto.UserSummary;
 import com.linkedin.backend.features.authentication.model.User;
 import com.linkedin.backend.features.authentication.service.AuthenticationService;
+import com.linkedin.backend.features.messaging.dto.MessageHistory;
+import com.linkedin.backend.features.messaging.dto.MessageView;
+import com.linkedin.backend.features.messaging.dto.ReadReceipt;
 import com.linkedin.backend.features.messaging.model.Conversation;
 import com.linkedin.backend.features.messaging.model.Message;
 import com.linkedin.backend.features.messaging.repository.ConversationRepository;
@@ -16,83 +25,119 @@ import jakarta.transaction.Transactional;
 
 @Service
 public class MessagingService {
+    private static final int MAX_MESSAGES_PAGE_SIZE = 50;
+
     private final ConversationRepository conversationRepository;
     private final MessageRepository messageRepository;
     private final AuthenticationService authenticationService;
     private final NotificationService notificationService;
+    private final InboxService inboxService;
 
     public MessagingService(ConversationRepository conversationRepository, MessageRepository messageRepository,
-            AuthenticationService authenticationService, NotificationService notificationService) {
+            AuthenticationService authenticationService, NotificationService notificationService,
+            InboxService inboxService) {
         this.conversationRepository = conversationRepository;
         this.messageRepository = messageRepository;
         this.authenticationService = authenticationService;
         this.notificationService = notificationService;
+        this.inboxService = inboxService;
     }
 
     public List<Conversation> getConversationsOfUser(User user) {
-        return conversationRepository.findByAuthorOrRecipient(user, user);
+        return conversationRepository.findByParticipant(user.getId());
     }
 
     public Conversation getConversation(User user, Long conversationId) {
         Conversation conversation = conversationRepository.findById(conversationId)
                 .orElseThrow(() -> new IllegalArgumentException("Conversation not found"));
-        if (!conversation.getAuthor().getId().equals(user.getId())
-                && !conversation.getRecipient().getId().equals(user.getId())) {
+        if (!conversation.hasParticipant(user.getId())) {
             throw new IllegalArgumentException("User not authorized to view conversation");
         }
         return conversation;
     }
 
-    @Transactional
-    public Conversation createConversationAndAddMessage(User sender, Long receiverId, String content) {
-        User receiver = authenticationService.getUserById(receiverId);
-        conversationRepository.findByAuthorAndRecipient(sender, receiver).ifPresentOrElse(
-                conversation -> {
-                    throw new IllegalArgumentException(
-                            "Conversation already exists, use the conversation id to send messages.");
-                },
-                () -> {
-                });
-
-        conversationRepository.findByAuthorAndRecipient(receiver, sender).ifPresentOrElse(
-                conversation -> {
-                    throw new IllegalArgumentException(
-                            "Conversation already exists, use the conversation id to send messages.");
-                },
-                () -> {
-                });
-
-        Conversation conversation = conversationRepository.save(new Conversation(sender, receiver));
-        Message message = new Message(sender, receiver, conversation, content);
-        messageRepository.save(message);
-        conversation.getMessages().add(message);
-        notificationService.sendConversationToUsers(sender.getId(), receiver.getId(), conversation);
-        return conversation;
+    public Optional<Conversation> findConversationWith(Long userId, Long otherUserId) {
+        return conversationRepository.findByLowUserIdAndHighUserId(Math.min(userId, otherUserId),
+                Math.max(userId, otherUserId));
     }
 
-    public Message addMessageToConversation(Long conversationId, User sender, Long receiverId, String content) {
-        User receiver = authenticationService.getUserById(receiverId);
+    public MessageHistory getMessages(Long userId, Long conversationId, LocalDateTime before, Long beforeId,
+                                      int size) {
         Conversation conversation = conversationRepository.findById(conversationId)
                 .orElseThrow(() -> new IllegalArgumentException("Conversation not found"));
+        if (!conversation.hasParticipant(userId)) {
+            throw new IllegalArgumentException("User not authorized to view conversation");
+        }
 
-        if (!conversation.getAuthor().getId().equals(sender.getId())
-                && !conversation.getRecipient().getId().equals(sender.getId())) {
-            throw new IllegalArgumentException("User not authorized to send message to this conversation");
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(size, MAX_MESSAGES_PAGE_SIZE)));
+        List<MessageView> messages = before == null || beforeId == null
+                ? messageRepository.findMessageViews(conversationId, page)
+                : messageRepository.findMessageViewsBefore(conversationId, before, beforeId, page);
+
+        Map<Long, UserSummary> participants = new LinkedHashMap<>();
+        participants.put(conversation.getAuthor().getId(), UserSummary.of(conversation.getAuthor()));
+        participants.put(conversation.getRecipient().getId(), UserSummary.of(conversation.getRecipient()));
+        return new MessageHistory(messages, participants);
+    }
+
+    /**
+     * Sends a message to the conversation between the two users, creating it on the first message. Starting a
+     * conversation that already exists, for example from two tabs at once, adds to it instead of duplicating it.
+     * The participants are taken from the conversation, which loads them anyway.
+     */
+    @Transactional
+    public Conversation createConversationAndAddMessage(Long senderId, Long receiverId, String content) {
+        if (senderId.equals(receiverId)) {
+            throw new IllegalArgumentException("Cannot start a conversation with yourself");
         }
+        authenticationService.getUserById(receiverId);
+        Conversation conversation = findOrCreateConversation(senderId, receiverId);
 
-        if (!conversation.getAuthor().getId().equals(receiver.getId())
-                && !conversation.getRecipient().getId().equals(receiver.getId())) {
-            throw new IllegalArgumentException("Receiver is not part of this conversation");
+        boolean senderIsAuthor = conversation.getAuthor().getId().equals(senderId);
+        User sender = senderIsAuthor ? conversation.getAuthor() : conversation.getRecipient();
+        User receiver = senderIsAuthor ? conversation.getRecipient() : conversation.getAuthor();
+        appendMessage(conversation, sender, receiver, content);
+        return conversation;
+    }
+
+    private Conversation findOrCreateConversation(Long senderId, Long receiverId) {
+        Long lowUserId = Math.min(senderId, receiverId);
+        Long highUserId = Math.max(senderId, receiverId);
+        return conversationRepository.findByLowUserIdAndHighUserId(lowUserId, highUserId).orElseGet(() -> {
+            conversationRepository.insertIfAbsent(senderId, receiverId);
+            return conversationRepository.findCommittedByPair(lowUserId, highUserId)
+                    .orElseThrow(() -> new IllegalStateException("Conversation could not be created"));
+        });
+    }
+
+    /**
+     * Appends a message without loading the conversation or its messages, the participant check is one primary
+     * key lookup on the pair columns.
+     */
+    @Transactional
+    public MessageView addMessageToConversation(Long conversationId, Long senderId, Long receiverId, String content) {
+        if (senderId.equals(receiverId) || !conversationRepository.existsByIdAndLowUserIdAndHighUserId(
+                conversationId, Math.min(senderId, receiverId), Math.max(senderId, receiverId))) {
+            throw new IllegalArgumentException("User not authorized to send message to this conversation");
         }
+        User sender = authenticationService.getUserReference(senderId);
+        User receiver = authenticationService.getUserReference(receiverId);
+        return appendMessage(conversationRepository.getReferenceById(conversationId), sender, receiver, content);
+    }
 
-        Message message = new Message(sender, receiver, conversation, content);
-        messageRepository.save(message);
-        conversation.getMessages().add(message);
-        notificationService.sendMessageToConversation(conversation.getId(), message);
-        notificationService.sendConversationToUsers(sender.getId(), receiver.getId(), conversation);
-        return message;
+    /**
+     * Inserts the message by reference, leaving the conversation's message collection unloaded, and sends the
+     * new message alone instead of the whole conversation.
+     */
+    private MessageView appendMessage(Conversation conversation, User sender, User receiver, String content) {
+        Message message = messageRepository.save(new Message(sender, receiver, conversation, content));
+        MessageView view = MessageView.of(message);
+        inboxService.onMessageSent(conversation.getId(), message);
+        notificationService.sendMessageToConversation(conversation.getId(), view);
+        return view;
     }
 
+    @Transactional
     public void markMessageAsRead(User user, Long messageId) {
         Message message = messageRepository.findById(messageId)
                 .orElseThrow(() -> new IllegalArgumentException("Message not found"));
@@ -101,10 +146,32 @@ public class MessagingService {
             throw new IllegalArgumentException("User not authorized to mark message as read");
         }
 
-        if (!message.getIsRead()) {
-            message.setIsRead(true);
-            messageRepository.save(message);
-            notificationService.sendMessageToConversation(message.getConversation().getId(), message);
+        // Conditional, so concurrent reads of the same message subtract it from the unread count only once.
+        int read = messageRepository.markRead(messageId, user.getId());
+        if (read > 0) {
+            inboxService.onMessagesRead(user.getId(), message.getConversation().getId(), read);
+            notificationService.sendMessageToConversation(message.getConversation().getId(),
+                    MessageView.of(message).asRead());
+        }
+    }
+
+    /**
+     * Marks every message the user received in the conversation, up to and including {@code upToMessageId}, as
+     * read in one update, and sends a single read receipt instead of one event per message.
+     */
+    @Transactional
+    public void markConversationAsRead(Long userId, Long conversationId, Long upToMessageId) {
+        Conversation conversation = conversationRepository.findById(conversationId)
+                .orElseThrow(() -> new IllegalArgumentException("Conversation not found"));
+        if (!conversation.hasParticipant(userId)) {
+            throw new IllegalArgumentException("User not authorized to mark conversation as read");
+        }
+
+        int read = messageRepository.markReadUpTo(conversationId, userId, upToMessageId);
+        if (read > 0) {
+            inboxService.onMessagesRead(userId, conversationId, read);
+            notificationService.sendReadReceiptToConversation(conversationId,
+                    new ReadReceipt(conversationId, userId, upToMessageId));
         }
     }
 }
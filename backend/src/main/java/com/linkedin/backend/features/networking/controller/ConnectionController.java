@@ -1,11 +1,18 @@
 package com.linkedin.backend.features.networking.controller;
 
+import com.linkedin.backend.features.authentication.dto.UserPrincipal;
 import com.linkedin.backend.features.authentication.model.User;
+import com.linkedin.backend.features.networking.dto.ConnectionCounts;
+import com.linkedin.backend.features.networking.dto.ConnectionDegree;
+import com.linkedin.backend.features.networking.dto.ConnectionSummary;
 import com.linkedin.backend.features.networking.model.Connection;
+import com.linkedin.backend.features.networking.model.ConnectionDirection;
 import com.linkedin.backend.features.networking.model.Status;
 import com.linkedin.backend.features.networking.service.ConnectionService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -25,6 +32,26 @@ public class ConnectionController {
         return connectionService.getUserConnections(user, status);
     }
 
+    @GetMapping("/connections/summaries")
+    public List<ConnectionSummary> getConnectionSummaries(@RequestAttribute("authenticatedPrincipal") UserPrincipal principal,
+                                                          @RequestParam(required = false) Status status,
+                                                          @RequestParam(required = false) ConnectionDirection direction,
+                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+                                                          @RequestParam(required = false) Long beforeId,
+                                                          @RequestParam(required = false, defaultValue = "20") Integer size) {
+        return connectionService.getConnectionSummaries(principal.id(), status, direction, before, beforeId, size);
+    }
+
+    @GetMapping("/connections/counts")
+    public ConnectionCounts getConnectionCounts(@RequestAttribute("authenticatedPrincipal") UserPrincipal principal) {
+        return connectionService.getConnectionCounts(principal.id());
+    }
+
+    @GetMapping("/relationship/{userId}")
+    public ConnectionDegree getConnectionDegree(@RequestAttribute("authenticatedPrincipal") UserPrincipal principal, @PathVariable Long userId) {
+        return connectionService.getConnectionDegree(principal.id(), userId);
+    }
+
     @PostMapping("/connections")
     public Connection sendConnectionRequest(@RequestAttribute("authenticatedUser") User sender, @RequestParam Long recipientId) {
         return connectionService.sendConnectionRequest(sender, recipientId);
@@ -46,7 +73,7 @@ public class ConnectionController {
     }
 
     @GetMapping("/suggestions")
-    public List<User> getConnectionSuggestions(@RequestAttribute("authenticatedUser") User user, @RequestParam(required = false, defaultValue = "6") Integer limit) {
-        return connectionService.getRecommendations(user.getId(), limit);
+    public List<User> getConnectionSuggestions(@RequestAttribute("authenticatedPrincipal") UserPrincipal principal, @RequestParam(required = false, defaultValue = "6") Integer limit) {
+        return connectionService.getRecommendations(principal.id(), limit);
     }
 }
\ No newline at end of file
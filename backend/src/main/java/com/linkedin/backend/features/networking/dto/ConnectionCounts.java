@@ -0,0 +1,11 @@
+package com.linkedin.backend.features.networking.dto;
+
+import com.linkedin.backend.features.networking.model.ConnectionCount;
+
+public record ConnectionCounts(long accepted, long pendingReceived, long pendingSent) {
+    public static final ConnectionCounts EMPTY = new ConnectionCounts(0, 0, 0);
+
+    public static ConnectionCounts of(ConnectionCount count) {
+        return new ConnectionCounts(count.getAccepted(), count.getPendingReceived(), count.getPendingSent());
+    }
+}
@@ -0,0 +1,12 @@
+package com.linkedin.backend.features.networking.dto;
+
+import com.linkedin.backend.features.authentication.dto.UserSummary;
+
+import java.util.List;
+
+/**
+ * How the authenticated user relates to another user. {@code degree} is 0 for oneself, 1 for a connection, 2 for
+ * a connection of a connection, 3 for three hops away and 4 for anyone out of network.
+ */
+public record ConnectionDegree(int degree, int mutualCount, List<UserSummary> mutualConnections) {
+}
@@ -0,0 +1,4 @@
+package com.linkedin.backend.features.networking.dto;
+
+public record ConnectionEdge(Long id, Long authorId, Long recipientId) {
+}
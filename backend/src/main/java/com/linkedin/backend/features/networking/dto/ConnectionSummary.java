@@ -0,0 +1,23 @@
+package com.linkedin.backend.features.networking.dto;
+
+import com.linkedin.backend.features.networking.model.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * A connection as seen by one of its users: the other user's public fields, and whether the request was sent
+ * or received.
+ */
+public record ConnectionSummary(
+        Long id,
+        Long userId,
+        String firstName,
+        String lastName,
+        String position,
+        String profilePicture,
+        Status status,
+        Boolean seen,
+        Boolean sent,
+        LocalDateTime connectionDate
+) {
+}
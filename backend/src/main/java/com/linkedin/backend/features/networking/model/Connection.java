@@ -1,5 +1,6 @@
 package com.linkedin.backend.features.networking.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.linkedin.backend.features.authentication.model.User;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
@@ -8,6 +9,11 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity(name = "connections")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_connections_min_user_id_max_user_id", columnNames = {"min_user_id", "max_user_id"}),
+        indexes = {
+                @Index(name = "idx_connections_author_status_date_id", columnList = "author_id, status, connection_date, id"),
+                @Index(name = "idx_connections_recipient_status_date_id", columnList = "recipient_id, status, connection_date, id")
+        })
 public class Connection {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -21,6 +27,17 @@ public class Connection {
     @JoinColumn(name = "recipient_id", nullable = false)
     private User recipient;
 
+    /**
+     * The two user ids in increasing order, so a pair has one key whichever user sent the request.
+     */
+    @JsonIgnore
+    @Column(name = "min_user_id", nullable = false)
+    private Long minUserId;
+
+    @JsonIgnore
+    @Column(name = "max_user_id", nullable = false)
+    private Long maxUserId;
+
     @NotNull
     private Status status = Status.PENDING;
 
@@ -35,6 +52,14 @@ public class Connection {
     public Connection(User author, User recipient) {
         this.author = author;
         this.recipient = recipient;
+        updatePairKey();
+    }
+
+    @PrePersist
+    @PreUpdate
+    private void updatePairKey() {
+        minUserId = Math.min(author.getId(), recipient.getId());
+        maxUserId = Math.max(author.getId(), recipient.getId());
     }
 
     public Long getId() {
@@ -0,0 +1,40 @@
+package com.linkedin.backend.features.networking.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * Per-user connection counters, kept in step with the connections table by ConnectionCountService.
+ */
+@Entity(name = "connection_counts")
+public class ConnectionCount {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    private long accepted;
+
+    private long pendingReceived;
+
+    private long pendingSent;
+
+    public ConnectionCount() {
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public long getAccepted() {
+        return accepted;
+    }
+
+    public long getPendingReceived() {
+        return pendingReceived;
+    }
+
+    public long getPendingSent() {
+        return pendingSent;
+    }
+}
@@ -0,0 +1,6 @@
+package com.linkedin.backend.features.networking.model;
+
+public enum ConnectionDirection {
+    SENT,
+    RECEIVED
+}
@@ -0,0 +1,37 @@
+package com.linkedin.backend.features.networking.repository;
+
+import com.linkedin.backend.features.networking.model.ConnectionCount;
+import com.linkedin.backend.features.networking.model.Status;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ConnectionCountRepository extends JpaRepository<ConnectionCount, Long> {
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO connection_counts (user_id, accepted, pending_received, pending_sent)"
+            + " VALUES (:userId, :accepted, :pendingReceived, :pendingSent) ON DUPLICATE KEY UPDATE"
+            + " accepted = accepted + :accepted, pending_received = pending_received + :pendingReceived,"
+            + " pending_sent = pending_sent + :pendingSent", nativeQuery = true)
+    void add(@Param("userId") Long userId, @Param("accepted") long accepted,
+             @Param("pendingReceived") long pendingReceived, @Param("pendingSent") long pendingSent);
+
+    @Modifying
+    @Query("UPDATE connection_counts cc SET cc.accepted = cc.accepted - 1 WHERE cc.userId IN"
+            + " (SELECT CASE WHEN c.author.id = :userId THEN c.recipient.id ELSE c.author.id END FROM connections c"
+            + " WHERE (c.author.id = :userId OR c.recipient.id = :userId) AND c.status = :status)")
+    void decrementAcceptedOfConnectionsOf(@Param("userId") Long userId, @Param("status") Status status);
+
+    @Modifying
+    @Query("UPDATE connection_counts cc SET cc.pendingReceived = cc.pendingReceived - 1 WHERE cc.userId IN"
+            + " (SELECT c.recipient.id FROM connections c WHERE c.author.id = :userId AND c.status = :status)")
+    void decrementPendingReceivedOfRecipientsOf(@Param("userId") Long userId, @Param("status") Status status);
+
+    @Modifying
+    @Query("UPDATE connection_counts cc SET cc.pendingSent = cc.pendingSent - 1 WHERE cc.userId IN"
+            + " (SELECT c.author.id FROM connections c WHERE c.recipient.id = :userId AND c.status = :status)")
+    void decrementPendingSentOfAuthorsOf(@Param("userId") Long userId, @Param("status") Status status);
+}
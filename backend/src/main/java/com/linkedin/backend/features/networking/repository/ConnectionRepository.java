@@ -1,16 +1,32 @@
 package com.linkedin.backend.features.networking.repository;
 
 import com.linkedin.backend.features.authentication.model.User;
+import com.linkedin.backend.features.networking.dto.ConnectionEdge;
+import com.linkedin.backend.features.networking.dto.ConnectionSummary;
 import com.linkedin.backend.features.networking.model.Connection;
 import com.linkedin.backend.features.networking.model.Status;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ConnectionRepository extends JpaRepository<Connection, Long> {
-    boolean existsByAuthorAndRecipient(User sender, User recipient);
+    // One query per side, so each reads idx_connections_{author,recipient}_status_date_id in order.
+    String SENT_SUMMARY_QUERY = "SELECT new com.linkedin.backend.features.networking.dto.ConnectionSummary(c.id,"
+            + " r.id, r.firstName, r.lastName, r.position, r.profilePicture, c.status, c.seen, true, c.connectionDate)"
+            + " FROM connections c JOIN c.recipient r WHERE c.author.id = :userId AND c.status = :status";
+    String RECEIVED_SUMMARY_QUERY = "SELECT new com.linkedin.backend.features.networking.dto.ConnectionSummary(c.id,"
+            + " a.id, a.firstName, a.lastName, a.position, a.profilePicture, c.status, c.seen, false, c.connectionDate)"
+            + " FROM connections c JOIN c.author a WHERE c.recipient.id = :userId AND c.status = :status";
+    String BEFORE = " AND (c.connectionDate < :before OR (c.connectionDate = :before AND c.id < :beforeId))";
+    String NEWEST_FIRST = " ORDER BY c.connectionDate DESC, c.id DESC";
+
+    boolean existsByMinUserIdAndMaxUserId(Long minUserId, Long maxUserId);
 
     List<Connection> findAllByAuthorOrRecipient(User userOne, User userTwo);
 
@@ -18,4 +34,52 @@ public interface ConnectionRepository extends JpaRepository<Connection, Long> {
     List<Connection> findConnectionsByUserAndStatus(@Param("user") User user, @Param("status") Status status);
 
     List<Connection> findByAuthorIdAndStatusOrRecipientIdAndStatus(Long authenticatedUserId, Status status, Long authenticatedUserId1, Status status1);
+
+    @Query("SELECT CASE WHEN c.author.id = :userId THEN c.recipient.id ELSE c.author.id END FROM connections c"
+            + " WHERE (c.author.id = :userId OR c.recipient.id = :userId) AND c.status = :status")
+    List<Long> findConnectedUserIds(@Param("userId") Long userId, @Param("status") Status status);
+
+    @Query("SELECT CASE WHEN c.author.id = :userId THEN c.recipient.id ELSE c.author.id END FROM connections c"
+            + " WHERE c.status = :status AND ((c.author.id = :userId AND c.recipient.id IN :candidateIds)"
+            + " OR (c.recipient.id = :userId AND c.author.id IN :candidateIds))")
+    List<Long> findConnectedUserIdsAmong(@Param("userId") Long userId, @Param("status") Status status,
+                                         @Param("candidateIds") Collection<Long> candidateIds);
+
+    @Query("SELECT new com.linkedin.backend.features.networking.dto.ConnectionEdge(c.id, c.author.id, c.recipient.id)"
+            + " FROM connections c WHERE c.status = :status AND c.id > :afterId ORDER BY c.id")
+    List<ConnectionEdge> findEdgesAfter(@Param("status") Status status, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(SENT_SUMMARY_QUERY + NEWEST_FIRST)
+    List<ConnectionSummary> findSentConnectionSummaries(@Param("userId") Long userId, @Param("status") Status status,
+                                                        Pageable pageable);
+
+    @Query(SENT_SUMMARY_QUERY + BEFORE + NEWEST_FIRST)
+    List<ConnectionSummary> findSentConnectionSummariesBefore(@Param("userId") Long userId, @Param("status") Status status,
+                                                              @Param("before") LocalDateTime before,
+                                                              @Param("beforeId") Long beforeId, Pageable pageable);
+
+    @Query(RECEIVED_SUMMARY_QUERY + NEWEST_FIRST)
+    List<ConnectionSummary> findReceivedConnectionSummaries(@Param("userId") Long userId, @Param("status") Status status,
+                                                            Pageable pageable);
+
+    @Query(RECEIVED_SUMMARY_QUERY + BEFORE + NEWEST_FIRST)
+    List<ConnectionSummary> findReceivedConnectionSummariesBefore(@Param("userId") Long userId, @Param("status") Status status,
+                                                                  @Param("before") LocalDateTime before,
+                                                                  @Param("beforeId") Long beforeId, Pageable pageable);
+
+    /**
+     * Moves a pending request to the recipient's accepted connections, returns 0 if it was no longer pending.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE connections c SET c.status = :accepted WHERE c.id = :id AND c.recipient.id = :recipientId"
+            + " AND c.status = :pending")
+    int accept(@Param("id") Long id, @Param("recipientId") Long recipientId,
+               @Param("pending") Status pending, @Param("accepted") Status accepted);
+
+    /**
+     * Deletes the connection if it still has the given status, returns the number of rows deleted.
+     */
+    @Modifying
+    @Query("DELETE FROM connections c WHERE c.id = :id AND c.status = :status")
+    int deleteByIdAndStatus(@Param("id") Long id, @Param("status") Status status);
 }
@@ -0,0 +1,61 @@
+package com.linkedin.backend.features.networking.service;
+
+import com.linkedin.backend.features.networking.dto.ConnectionCounts;
+import com.linkedin.backend.features.networking.model.Connection;
+import com.linkedin.backend.features.networking.model.Status;
+import com.linkedin.backend.features.networking.repository.ConnectionCountRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps each user's accepted, pending-received and pending-sent counts in step with their connections, with
+ * atomic increments so concurrent requests don't lose updates.
+ */
+@Service
+public class ConnectionCountService {
+    private final ConnectionCountRepository connectionCountRepository;
+
+    public ConnectionCountService(ConnectionCountRepository connectionCountRepository) {
+        this.connectionCountRepository = connectionCountRepository;
+    }
+
+    public ConnectionCounts getCounts(Long userId) {
+        return connectionCountRepository.findById(userId)
+                .map(ConnectionCounts::of)
+                .orElse(ConnectionCounts.EMPTY);
+    }
+
+    public void onRequestSent(Long authorId, Long recipientId) {
+        connectionCountRepository.add(authorId, 0, 0, 1);
+        connectionCountRepository.add(recipientId, 0, 1, 0);
+    }
+
+    public void onAccepted(Long authorId, Long recipientId) {
+        connectionCountRepository.add(authorId, 1, 0, -1);
+        connectionCountRepository.add(recipientId, 1, -1, 0);
+    }
+
+    public void onRemoved(Connection connection) {
+        Long authorId = connection.getAuthor().getId();
+        Long recipientId = connection.getRecipient().getId();
+        if (connection.getStatus().equals(Status.ACCEPTED)) {
+            connectionCountRepository.add(authorId, -1, 0, 0);
+            connectionCountRepository.add(recipientId, -1, 0, 0);
+        } else {
+            connectionCountRepository.add(authorId, 0, 0, -1);
+            connectionCountRepository.add(recipientId, 0, -1, 0);
+        }
+    }
+
+    /**
+     * Updates the counts of everyone connected to a user about to be deleted, must run before the user's
+     * connections are removed.
+     */
+    @Transactional
+    public void onUserDeleted(Long userId) {
+        connectionCountRepository.decrementAcceptedOfConnectionsOf(userId, Status.ACCEPTED);
+        connectionCountRepository.decrementPendingReceivedOfRecipientsOf(userId, Status.PENDING);
+        connectionCountRepository.decrementPendingSentOfAuthorsOf(userId, Status.PENDING);
+        connectionCountRepository.deleteById(userId);
+    }
+}
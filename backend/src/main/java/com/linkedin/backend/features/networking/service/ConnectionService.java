@@ -1,46 +1,93 @@
 package com.linkedin.backend.features.networking.service;
 
+import com.linkedin.backend.features.authentication.dto.UserSummary;
 import com.linkedin.backend.features.authentication.model.User;
 import com.linkedin.backend.features.authentication.repository.UserRepository;
+import com.linkedin.backend.features.feed.service.FeedTimelineService;
+import com.linkedin.backend.features.networking.dto.ConnectionCounts;
+import com.linkedin.backend.features.networking.dto.ConnectionDegree;
+import com.linkedin.backend.features.networking.dto.ConnectionSummary;
 import com.linkedin.backend.features.networking.model.Connection;
+import com.linkedin.backend.features.networking.model.ConnectionDirection;
 import com.linkedin.backend.features.networking.model.Status;
 import com.linkedin.backend.features.networking.repository.ConnectionRepository;
+import com.linkedin.backend.features.networking.utils.ProfileFeatureTable;
 import com.linkedin.backend.features.notifications.service.NotificationService;
+import com.linkedin.backend.utils.AfterCommit;
+import jakarta.transaction.Transactional;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class ConnectionService {
+    private static final int MAX_RECOMMENDATIONS = 50;
+    private static final int MAX_CONNECTIONS_PAGE_SIZE = 100;
+    private static final int THIRD_DEGREE = 3;
+    private static final int OUT_OF_NETWORK = 4;
+    private static final int DEGREE_VISIT_BUDGET = 50_000;
+    private static final int MUTUAL_CONNECTIONS_SAMPLE_SIZE = 3;
+    private static final int RECOMMENDATION_CANDIDATE_BUDGET = 1000;
+    private static final Comparator<ConnectionSummary> NEWEST_FIRST = Comparator
+            .comparing(ConnectionSummary::connectionDate, Comparator.reverseOrder())
+            .thenComparing(ConnectionSummary::id, Comparator.reverseOrder());
 
     private final ConnectionRepository connectionRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
-
-    public ConnectionService(ConnectionRepository connectionRepository, UserRepository userRepository, NotificationService notificationService) {
+    private final FeedTimelineService feedTimelineService;
+    private final SocialGraphIndex socialGraphIndex;
+    private final RecommendationPrecomputeService recommendationPrecomputeService;
+    private final ConnectionCountService connectionCountService;
+
+    public ConnectionService(ConnectionRepository connectionRepository, UserRepository userRepository, NotificationService notificationService,
+                             FeedTimelineService feedTimelineService, SocialGraphIndex socialGraphIndex,
+                             RecommendationPrecomputeService recommendationPrecomputeService,
+                             ConnectionCountService connectionCountService) {
         this.connectionRepository = connectionRepository;
         this.userRepository = userRepository;
         this.notificationService = notificationService;
+        this.feedTimelineService = feedTimelineService;
+        this.socialGraphIndex = socialGraphIndex;
+        this.recommendationPrecomputeService = recommendationPrecomputeService;
+        this.connectionCountService = connectionCountService;
     }
 
+    @Transactional
     public Connection sendConnectionRequest(User sender, Long recipientId) {
         User recipient = userRepository.findById(recipientId)
                 .orElseThrow(() -> new IllegalArgumentException("Recipient not found"));
 
-        if (connectionRepository.existsByAuthorAndRecipient(sender, recipient) ||
-                connectionRepository.existsByAuthorAndRecipient(recipient, sender)) {
+        if (connectionRepository.existsByMinUserIdAndMaxUserId(Math.min(sender.getId(), recipientId),
+                Math.max(sender.getId(), recipientId))) {
             throw new IllegalStateException("Connection request already exists");
         }
 
-        Connection connection = connectionRepository.save(new Connection(sender, recipient));
+        Connection connection;
+        try {
+            connection = connectionRepository.saveAndFlush(new Connection(sender, recipient));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request for the same pair won the unique (min_user_id, max_user_id) key.
+            throw new IllegalStateException("Connection request already exists");
+        }
+        connectionCountService.onRequestSent(sender.getId(), recipientId);
         notificationService.sendNewInvitationToUsers(sender.getId(), recipient.getId(), connection);
         return connection;
     }
 
+    @Transactional
     public Connection acceptConnectionRequest(User recipient, Long connectionId) {
         Connection connection = connectionRepository.findById(connectionId)
                 .orElseThrow(() -> new IllegalArgumentException("Connection not found"));
@@ -53,11 +100,25 @@ public class ConnectionService {
             throw new IllegalStateException("Connection is already accepted");
         }
 
-        connection.setStatus(Status.ACCEPTED);
-        notificationService.sendInvitationAcceptedToUsers(connection.getAuthor().getId(), connection.getRecipient().getId(), connection);
-        return connectionRepository.save(connection);
+        // Only one of concurrent accepts or cancels changes the row, the others must not touch the counts.
+        if (connectionRepository.accept(connectionId, recipient.getId(), Status.PENDING, Status.ACCEPTED) == 0) {
+            throw new IllegalStateException("Connection request is no longer pending");
+        }
+
+        Long authorId = connection.getAuthor().getId();
+        Long recipientId = connection.getRecipient().getId();
+        Connection savedConnection = connectionRepository.findById(connectionId)
+                .orElseThrow(() -> new IllegalArgumentException("Connection not found"));
+        notificationService.sendInvitationAcceptedToUsers(authorId, recipientId, savedConnection);
+        connectionCountService.onAccepted(authorId, recipientId);
+        AfterCommit.run(() -> {
+            socialGraphIndex.addConnection(authorId, recipientId);
+            feedTimelineService.evictTimelines(authorId, recipientId);
+        });
+        return savedConnection;
     }
 
+    @Transactional
     public Connection rejectOrCancelConnection(User recipient, Long connectionId) {
         Connection connection = connectionRepository.findById(connectionId)
                 .orElseThrow(() -> new IllegalArgumentException("Connection not found"));
@@ -65,7 +126,19 @@ public class ConnectionService {
         if (!connection.getRecipient().getId().equals(recipient.getId()) && !connection.getAuthor().getId().equals(recipient.getId())) {
             throw new IllegalStateException("User is not the recipient or author of the connection request");
         }
-        connectionRepository.deleteById(connectionId);
+        // Counts follow the status that was deleted, so a concurrent accept or cancel cannot make them drift.
+        if (connectionRepository.deleteByIdAndStatus(connectionId, connection.getStatus()) == 0) {
+            throw new IllegalStateException("Connection was already changed or removed");
+        }
+        connectionCountService.onRemoved(connection);
+        if (connection.getStatus().equals(Status.ACCEPTED)) {
+            Long authorId = connection.getAuthor().getId();
+            Long recipientId = connection.getRecipient().getId();
+            AfterCommit.run(() -> {
+                socialGraphIndex.removeConnection(authorId, recipientId);
+                feedTimelineService.evictTimelines(authorId, recipientId);
+            });
+        }
         notificationService.sendRemoveConnectionToUsers(connection.getAuthor().getId(), connection.getRecipient().getId(), connection);
         return connection;
     }
@@ -80,120 +153,151 @@ public class ConnectionService {
         return connectionRepository.findConnectionsByUserAndStatus(user, status != null ? status : Status.ACCEPTED);
     }
 
-    public Connection markConnectionAsSeen(User user, Long id) {
-        Connection connection = connectionRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Connection not found"));
-
-        if (!connection.getRecipient().getId().equals(user.getId())) {
-            throw new IllegalStateException("User is not the recipient of the connection request");
+    /**
+     * Returns a page of the user's connections with the given status, newest first. A null direction returns
+     * both sent and received connections, merged from one page of each.
+     */
+    public List<ConnectionSummary> getConnectionSummaries(Long userId, Status status, ConnectionDirection direction,
+                                                          LocalDateTime before, Long beforeId, int size) {
+        Status effectiveStatus = status != null ? status : Status.ACCEPTED;
+        int pageSize = Math.max(1, Math.min(size, MAX_CONNECTIONS_PAGE_SIZE));
+        PageRequest page = PageRequest.of(0, pageSize);
+        boolean firstPage = before == null || beforeId == null;
+        List<ConnectionSummary> sent = direction == ConnectionDirection.RECEIVED ? List.of() : firstPage
+                ? connectionRepository.findSentConnectionSummaries(userId, effectiveStatus, page)
+                : connectionRepository.findSentConnectionSummariesBefore(userId, effectiveStatus, before, beforeId, page);
+        List<ConnectionSummary> received = direction == ConnectionDirection.SENT ? List.of() : firstPage
+                ? connectionRepository.findReceivedConnectionSummaries(userId, effectiveStatus, page)
+                : connectionRepository.findReceivedConnectionSummariesBefore(userId, effectiveStatus, before, beforeId,
+                page);
+        if (sent.isEmpty() || received.isEmpty()) {
+            return sent.isEmpty() ? received : sent;
         }
 
-        connection.setSeen(true);
-        notificationService.sendConnectionSeenNotification(connection.getRecipient().getId(), connection);
-        return connectionRepository.save(connection);
-    }
-
-
-    public List<User> getRecommendations(Long userId, int limit) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
-        Set<User> secondDegreeConnections = getSecondDegreeConnections(user);
-
-        secondDegreeConnections = secondDegreeConnections.isEmpty() ? new HashSet<>(userRepository.findAllByIdNot(userId)) : secondDegreeConnections;
-
-        List<UserRecommendation> recommendations = new ArrayList<>();
-
-        for (User potentialConnection : secondDegreeConnections) {
-            if (!potentialConnection.getProfileComplete()) {
-                continue;
+        List<ConnectionSummary> merged = new ArrayList<>(pageSize);
+        int i = 0;
+        int j = 0;
+        while (merged.size() < pageSize && (i < sent.size() || j < received.size())) {
+            if (j == received.size() || (i < sent.size() && NEWEST_FIRST.compare(sent.get(i), received.get(j)) <= 0)) {
+                merged.add(sent.get(i++));
+            } else {
+                merged.add(received.get(j++));
             }
-
-            double score = calculateProfileSimilarity(user, potentialConnection);
-
-            int mutualConnections = countMutualConnections(user, potentialConnection);
-            score += mutualConnections * 0.5;
-
-            recommendations.add(new UserRecommendation(potentialConnection, score));
         }
-
-        return recommendations.stream()
-                .sorted((r1, r2) -> Double.compare(r2.score(), r1.score()))
-                .limit(limit)
-                .map(UserRecommendation::user)
-                .collect(Collectors.toList());
+        return merged;
     }
 
-    private double calculateProfileSimilarity(User user1, User user2) {
-        double score = 0.0;
+    public ConnectionCounts getConnectionCounts(Long userId) {
+        return connectionCountService.getCounts(userId);
+    }
 
-        if (user1.getCompany().equalsIgnoreCase(user2.getCompany())) {
-            score += 3.0;
+    /**
+     * Reads the degree off the adjacency lists: 1 if connected, 2 if there is a mutual connection, 3 otherwise.
+     * No search is needed, anything past two hops is reported as 3.
+     */
+    public ConnectionDegree getConnectionDegree(Long userId, Long otherUserId) {
+        if (userId.equals(otherUserId)) {
+            return new ConnectionDegree(0, 0, List.of());
         }
-        if (user1.getPosition().equalsIgnoreCase(user2.getPosition())) {
-            score += 2.0;
+        int mutualCount = socialGraphIndex.countMutual(userId, otherUserId);
+        if (mutualCount == 0) {
+            int degree = socialGraphIndex.areConnected(userId, otherUserId) ? 1 : thirdDegreeOrFurther(userId, otherUserId);
+            return new ConnectionDegree(degree, 0, List.of());
         }
+        int degree = socialGraphIndex.areConnected(userId, otherUserId) ? 1 : 2;
+        long[] sample = socialGraphIndex.mutual(userId, otherUserId, MUTUAL_CONNECTIONS_SAMPLE_SIZE);
+        List<UserSummary> mutualConnections = loadUsers(sample).stream().map(UserSummary::of).toList();
+        return new ConnectionDegree(degree, mutualCount, mutualConnections);
+    }
 
-        if (user1.getLocation().equalsIgnoreCase(user2.getLocation())) {
-            score += 1.5;
+    /**
+     * Tells third-degree users from users out of network. Users the search cannot settle within its budget, or
+     * while the graph is still loading, are reported as third degree.
+     */
+    private int thirdDegreeOrFurther(Long userId, Long otherUserId) {
+        if (!socialGraphIndex.isReady()) {
+            return THIRD_DEGREE;
         }
-
-        return score;
+        int distance = socialGraphIndex.distance(userId, otherUserId, THIRD_DEGREE, DEGREE_VISIT_BUDGET);
+        return distance == -1 ? OUT_OF_NETWORK : THIRD_DEGREE;
     }
 
-    private Set<User> getSecondDegreeConnections(User user) {
-        Set<User> directConnections = new HashSet<>();
+    @Transactional
+    public Connection markConnectionAsSeen(User user, Long id) {
+        Connection connection = connectionRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Connection not found"));
 
-        user.getInitiatedConnections().stream()
-                .filter(conn -> conn.getStatus().equals(Status.ACCEPTED))
-                .forEach(conn -> directConnections.add(conn.getRecipient()));
+        if (!connection.getRecipient().getId().equals(user.getId())) {
+            throw new IllegalStateException("User is not the recipient of the connection request");
+        }
 
-        user.getReceivedConnections().stream()
-                .filter(conn -> conn.getStatus().equals(Status.ACCEPTED))
-                .forEach(conn -> directConnections.add(conn.getAuthor()));
+        connection.setSeen(true);
+        Connection savedConnection = connectionRepository.save(connection);
+        notificationService.sendConnectionSeenNotification(connection.getRecipient().getId(), savedConnection);
+        return savedConnection;
+    }
 
-        Set<User> secondDegreeConnections = new HashSet<>();
 
-        for (User directConnection : directConnections) {
-            directConnection.getInitiatedConnections().stream()
-                    .filter(conn -> conn.getStatus().equals(Status.ACCEPTED))
-                    .forEach(conn -> secondDegreeConnections.add(conn.getRecipient()));
+    /**
+     * Serves the precomputed ranking when there is one. Otherwise ranks up to
+     * {@link RecommendationPrecomputeService#CANDIDATE_BUDGET} second-degree connections, or users sharing the
+     * company, position or location when there are none, and loads only the top {@code limit} users.
+     */
+    public List<User> getRecommendations(Long userId, int limit) {
+        int size = Math.max(0, Math.min(limit, MAX_RECOMMENDATIONS));
+        if (size == 0) {
+            return List.of();
+        }
 
-            directConnection.getReceivedConnections().stream()
-                    .filter(conn -> conn.getStatus().equals(Status.ACCEPTED))
-                    .forEach(conn -> secondDegreeConnections.add(conn.getAuthor()));
+        long[] precomputed = recommendationPrecomputeService.getPrecomputed(userId, size);
+        if (precomputed != null) {
+            // Connections accepted since the last run are dropped here until the user is recomputed.
+            return loadUsers(Arrays.stream(precomputed)
+                    .filter(candidateId -> !socialGraphIndex.areConnected(userId, candidateId))
+                    .limit(size)
+                    .toArray());
         }
 
-        secondDegreeConnections.remove(user);
-        secondDegreeConnections.removeAll(directConnections);
+        long[] candidateIds = socialGraphIndex.secondDegree(userId, RecommendationPrecomputeService.CANDIDATE_BUDGET);
+        if (candidateIds.length == 0) {
+            candidateIds = similarProfileIds(userId);
+        }
 
-        return secondDegreeConnections;
-    }
-    
-    private int countMutualConnections(User user1, User user2) {
-        Set<User> user1Connections = new HashSet<>();
-
-        user1.getInitiatedConnections().stream()
-                .filter(conn -> conn.getStatus().equals(Status.ACCEPTED))
-                .forEach(conn -> user1Connections.add(conn.getRecipient()));
-        user1.getReceivedConnections().stream()
-                .filter(conn -> conn.getStatus().equals(Status.ACCEPTED))
-                .forEach(conn -> user1Connections.add(conn.getAuthor()));
-
-        Set<User> user2Connections = new HashSet<>();
-        user2.getInitiatedConnections().stream()
-                .filter(conn -> conn.getStatus().equals(Status.ACCEPTED))
-                .forEach(conn -> user2Connections.add(conn.getRecipient()));
-        user2.getReceivedConnections().stream()
-                .filter(conn -> conn.getStatus().equals(Status.ACCEPTED))
-                .forEach(conn -> user2Connections.add(conn.getAuthor()));
-
-        user1Connections.retainAll(user2Connections);
-        return user1Connections.size();
+        List<Long> profileIds = new ArrayList<>(candidateIds.length + 1);
+        profileIds.add(userId);
+        Arrays.stream(candidateIds).forEach(profileIds::add);
+        ProfileFeatureTable profiles = recommendationPrecomputeService.toFeatureTable(userRepository.findProfiles(profileIds));
+        long[] ranked = recommendationPrecomputeService.rank(userId, candidateIds, profiles, size);
+        if (ranked == null) {
+            throw new IllegalArgumentException("User not found");
+        }
+        return loadUsers(ranked);
     }
 
-    private record UserRecommendation(User user, double score) {
+    /**
+     * Candidates for users without second-degree connections: the newest complete profiles sharing each of the
+     * user's attributes, one bounded index range per attribute. The scorer ranks them like any other candidate.
+     */
+    private long[] similarProfileIds(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        PageRequest page = PageRequest.of(0, RecommendationPrecomputeService.CANDIDATE_BUDGET / 3);
+        Set<Long> candidateIds = new LinkedHashSet<>();
+        if (user.getCompany() != null) {
+            candidateIds.addAll(userRepository.findCompleteProfileIdsByCompany(user.getCompany(), userId, page));
+        }
+        if (user.getPosition() != null) {
+            candidateIds.addAll(userRepository.findCompleteProfileIdsByPosition(user.getPosition(), userId, page));
+        }
+        if (user.getLocation() != null) {
+            candidateIds.addAll(userRepository.findCompleteProfileIdsByLocation(user.getLocation(), userId, page));
+        }
+        return candidateIds.stream().mapToLong(Long::longValue).toArray();
     }
 
-
+    private List<User> loadUsers(long[] rankedIds) {
+        Map<Long, User> users = userRepository.findAllById(Arrays.stream(rankedIds).boxed().toList()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return Arrays.stream(rankedIds).mapToObj(users::get).filter(Objects::nonNull).toList();
+    }
 }
@@ -0,0 +1,248 @@
+package com.linkedin.backend.features.networking.service;
+
+import com.linkedin.backend.features.authentication.dto.UserProfile;
+import com.linkedin.backend.features.authentication.repository.UserRepository;
+import com.linkedin.backend.features.networking.utils.ProfileFeatureDictionary;
+import com.linkedin.backend.features.networking.utils.ProfileFeatureTable;
+import com.linkedin.backend.features.networking.utils.ProfileSimilarityScorer;
+import com.linkedin.backend.features.networking.utils.RecommendationRanker;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Precomputes "People you may know" for every connected user.
+ * <p>
+ * A full run ranks every user in the {@link SocialGraphIndex}. Between full runs, only the users whose two-hop
+ * neighbourhood changed are recomputed: the endpoints of every added or removed connection and their direct
+ * connections. Users are ranked in parallel, in partitions of {@link #PARTITION_SIZE}, on the common fork-join pool.
+ */
+@Service
+public class RecommendationPrecomputeService {
+    static final int CANDIDATE_BUDGET = 1000;
+    private static final int PARTITION_SIZE = 256;
+    private static final int PROFILE_BATCH_SIZE = 1000;
+    private static final Logger logger = LoggerFactory.getLogger(RecommendationPrecomputeService.class);
+
+    private final SocialGraphIndex socialGraphIndex;
+    private final UserRepository userRepository;
+    private final int precomputedSize;
+    private final long fullRefreshIntervalNanos;
+    private final Map<Long, long[]> recommendations = new ConcurrentHashMap<>();
+    // Replaced on every full run so values no profile uses anymore are dropped. Ids are only compared within one
+    // table, which reads each dictionary once.
+    private volatile ProfileFeatureDictionary companyIds = new ProfileFeatureDictionary();
+    private volatile ProfileFeatureDictionary positionIds = new ProfileFeatureDictionary();
+    private volatile ProfileFeatureDictionary locationIds = new ProfileFeatureDictionary();
+    private final ProfileSimilarityScorer scorer = new ProfileSimilarityScorer();
+    private volatile long lastFullRun;
+    private volatile boolean computed;
+
+    public RecommendationPrecomputeService(SocialGraphIndex socialGraphIndex, UserRepository userRepository,
+                                           @Value("${networking.recommendations.precomputed-size:20}") int precomputedSize,
+                                           @Value("${networking.recommendations.full-refresh-interval:6h}") Duration fullRefreshInterval) {
+        this.socialGraphIndex = socialGraphIndex;
+        this.userRepository = userRepository;
+        this.precomputedSize = precomputedSize;
+        this.fullRefreshIntervalNanos = fullRefreshInterval.toNanos();
+    }
+
+    /**
+     * Returns the precomputed ranking for the user, best first, or null if it was not computed or holds fewer
+     * than {@code size} users while more may exist.
+     */
+    public long[] getPrecomputed(long userId, int size) {
+        long[] ranked = recommendations.get(userId);
+        if (ranked == null || (ranked.length < size && ranked.length == precomputedSize)) {
+            return null;
+        }
+        return ranked;
+    }
+
+    @Scheduled(fixedDelayString = "${networking.recommendations.refresh-interval:300000}",
+            initialDelayString = "${networking.recommendations.initial-delay:60000}")
+    public void refresh() {
+        if (!socialGraphIndex.isReady()) {
+            return;
+        }
+        long start = System.nanoTime();
+        if (!computed || start - lastFullRun >= fullRefreshIntervalNanos) {
+            socialGraphIndex.drainChangedUsers();
+            companyIds = new ProfileFeatureDictionary();
+            positionIds = new ProfileFeatureDictionary();
+            locationIds = new ProfileFeatureDictionary();
+            long[] userIds = socialGraphIndex.userIds();
+            rankAll(userIds, null, loadAllProfiles());
+            recommendations.keySet().removeIf(userId -> socialGraphIndex.degree(userId) == 0);
+            lastFullRun = start;
+            computed = true;
+            logger.info("Precomputed recommendations for {} users in {} ms", userIds.length,
+                    (System.nanoTime() - start) / 1_000_000);
+            return;
+        }
+
+        Set<Long> changed = socialGraphIndex.drainChangedUsers();
+        if (changed.isEmpty()) {
+            return;
+        }
+        Roaring64Bitmap affected = new Roaring64Bitmap();
+        for (long userId : changed) {
+            affected.addLong(userId);
+            for (long neighbourId : socialGraphIndex.neighbours(userId)) {
+                affected.addLong(neighbourId);
+            }
+        }
+        long[] userIds = affected.toArray();
+        // Candidates are sampled, so keep the sample whose profiles are loaded for ranking.
+        long[][] candidateIds = new long[userIds.length][];
+        Roaring64Bitmap profileIds = new Roaring64Bitmap();
+        for (int i = 0; i < userIds.length; i++) {
+            profileIds.addLong(userIds[i]);
+            candidateIds[i] = socialGraphIndex.secondDegree(userIds[i], CANDIDATE_BUDGET);
+            for (long candidateId : candidateIds[i]) {
+                profileIds.addLong(candidateId);
+            }
+        }
+        rankAll(userIds, candidateIds, loadProfiles(profileIds));
+        logger.debug("Recomputed recommendations for {} users in {} ms", userIds.length,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Builds a table of the given profiles with this service's attribute dictionaries.
+     */
+    public ProfileFeatureTable toFeatureTable(List<UserProfile> profiles) {
+        return ProfileFeatureTable.of(profiles, companyIds, positionIds, locationIds);
+    }
+
+    /**
+     * Returns the best {@code size} of the candidates with a complete profile in the table, best first,
+     * or null if the user is not in the table.
+     */
+    public long[] rank(long userId, long[] candidateIds, ProfileFeatureTable profiles, int size) {
+        int userSlot = profiles.slotOf(userId);
+        if (userSlot < 0) {
+            return null;
+        }
+
+        long[] ids = new long[candidateIds.length];
+        int[] companies = new int[candidateIds.length];
+        int[] positions = new int[candidateIds.length];
+        int[] locations = new int[candidateIds.length];
+        int[] mutualCounts = new int[candidateIds.length];
+        int length = 0;
+        for (long candidateId : candidateIds) {
+            int slot = profiles.slotOf(candidateId);
+            if (slot < 0 || !profiles.isComplete(slot)) {
+                continue;
+            }
+            ids[length] = candidateId;
+            companies[length] = profiles.company(slot);
+            positions[length] = profiles.position(slot);
+            locations[length] = profiles.location(slot);
+            mutualCounts[length] = socialGraphIndex.countMutual(userId, candidateId);
+            length++;
+        }
+
+        float[] scores = new float[length];
+        scorer.score(profiles.company(userSlot), profiles.position(userSlot), profiles.location(userSlot),
+                companies, positions, locations, mutualCounts, length, scores);
+
+        RecommendationRanker ranker = new RecommendationRanker(size);
+        for (int i = 0; i < length; i++) {
+            ranker.offer(ids[i], scores[i]);
+        }
+        return ranker.ranked();
+    }
+
+    /**
+     * Ranks every user, against the given candidates when there are some or a fresh sample of their second-degree
+     * connections otherwise.
+     */
+    private void rankAll(long[] userIds, long[][] candidateIds, ProfileFeatureTable profiles) {
+        ForkJoinPool.commonPool().invoke(new RankPartition(userIds, candidateIds, 0, userIds.length, profiles));
+    }
+
+    private void rankUser(long userId, long[] candidateIds, ProfileFeatureTable profiles) {
+        if (candidateIds == null) {
+            candidateIds = socialGraphIndex.secondDegree(userId, CANDIDATE_BUDGET);
+        }
+        long[] ranked = rank(userId, candidateIds, profiles, precomputedSize);
+        if (ranked == null || ranked.length == 0) {
+            recommendations.remove(userId);
+        } else {
+            recommendations.put(userId, ranked);
+        }
+    }
+
+    private ProfileFeatureTable loadAllProfiles() {
+        List<UserProfile> profiles = new ArrayList<>();
+        long afterId = 0;
+        List<UserProfile> batch;
+        do {
+            batch = userRepository.findProfilesAfter(afterId, PageRequest.of(0, PROFILE_BATCH_SIZE));
+            profiles.addAll(batch);
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).id();
+            }
+        } while (batch.size() == PROFILE_BATCH_SIZE);
+        return toFeatureTable(profiles);
+    }
+
+    private ProfileFeatureTable loadProfiles(Roaring64Bitmap ids) {
+        List<UserProfile> profiles = new ArrayList<>();
+        List<Long> batch = new ArrayList<>(PROFILE_BATCH_SIZE);
+        LongIterator iterator = ids.getLongIterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() == PROFILE_BATCH_SIZE || !iterator.hasNext()) {
+                profiles.addAll(userRepository.findProfiles(batch));
+                batch.clear();
+            }
+        }
+        return toFeatureTable(profiles);
+    }
+
+    private final class RankPartition extends RecursiveAction {
+        private final long[] userIds;
+        private final long[][] candidateIds;
+        private final int from;
+        private final int to;
+        private final ProfileFeatureTable profiles;
+
+        private RankPartition(long[] userIds, long[][] candidateIds, int from, int to, ProfileFeatureTable profiles) {
+            this.userIds = userIds;
+            this.candidateIds = candidateIds;
+            this.from = from;
+            this.to = to;
+            this.profiles = profiles;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARTITION_SIZE) {
+                for (int i = from; i < to; i++) {
+                    rankUser(userIds[i], candidateIds == null ? null : candidateIds[i], profiles);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RankPartition(userIds, candidateIds, from, middle, profiles),
+                    new RankPartition(userIds, candidateIds, middle, to, profiles));
+        }
+    }
+}
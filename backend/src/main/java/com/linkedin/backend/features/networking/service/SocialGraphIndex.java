@@ -0,0 +1,379 @@
+package com.linkedin.backend.features.networking.service;
+
+import com.linkedin.backend.features.networking.dto.ConnectionEdge;
+import com.linkedin.backend.features.networking.model.Status;
+import com.linkedin.backend.features.networking.repository.ConnectionRepository;
+import com.linkedin.backend.features.networking.utils.SortedLongArrays;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-memory adjacency of accepted connections, keyed by user id.
+ * <p>
+ * Each user maps to a sorted {@code long[]} of connected user ids. Arrays are never mutated in place:
+ * writers replace them under a lock, so readers see a consistent snapshot without locking.
+ * The index is loaded once at startup and kept up to date by {@link ConnectionService}. Removals made while the
+ * startup load runs are recorded and replayed on top of the loaded snapshot, which may still contain them.
+ */
+@Service
+public class SocialGraphIndex {
+    public static final int BUDGET_EXCEEDED = -2;
+
+    private static final Logger logger = LoggerFactory.getLogger(SocialGraphIndex.class);
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final ConnectionRepository connectionRepository;
+    private final Map<Long, long[]> adjacency = new ConcurrentHashMap<>();
+    private final Set<Long> changedUsers = ConcurrentHashMap.newKeySet();
+    private final Object writeLock = new Object();
+    private final Set<Edge> edgesRemovedWhileLoading = new HashSet<>();
+    private final Set<Long> usersRemovedWhileLoading = new HashSet<>();
+    private volatile boolean ready;
+
+    public SocialGraphIndex(ConnectionRepository connectionRepository) {
+        this.connectionRepository = connectionRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        Map<Long, LongBuffer> buffers = new HashMap<>();
+        long afterId = 0;
+        long edges = 0;
+        List<ConnectionEdge> batch;
+        do {
+            batch = connectionRepository.findEdgesAfter(Status.ACCEPTED, afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (ConnectionEdge edge : batch) {
+                addEdge(buffers, edge.authorId(), edge.recipientId());
+                afterId = edge.id();
+            }
+            edges += batch.size();
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        install(buffers);
+        logger.info("Loaded social graph index: {} users, {} connections in {} ms",
+                adjacency.size(), edges, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Loads connections given as parallel arrays of user ids, for benchmarks on synthetic graphs.
+     */
+    void loadEdges(long[] userIds, long[] otherUserIds) {
+        Map<Long, LongBuffer> buffers = new HashMap<>();
+        for (int i = 0; i < userIds.length; i++) {
+            if (userIds[i] != otherUserIds[i]) {
+                addEdge(buffers, userIds[i], otherUserIds[i]);
+            }
+        }
+        install(buffers);
+    }
+
+    private static void addEdge(Map<Long, LongBuffer> buffers, long userId, long otherUserId) {
+        buffers.computeIfAbsent(userId, id -> new LongBuffer()).add(otherUserId);
+        buffers.computeIfAbsent(otherUserId, id -> new LongBuffer()).add(userId);
+    }
+
+    private void install(Map<Long, LongBuffer> buffers) {
+        synchronized (writeLock) {
+            // Connections accepted while loading were already added incrementally; merge them in.
+            buffers.forEach((userId, buffer) -> adjacency.merge(userId, buffer.toSortedArray(), SortedLongArrays::union));
+            // Removals made while loading may be missing from the snapshot the batches read; apply them again.
+            for (Edge edge : edgesRemovedWhileLoading) {
+                removeNeighbour(edge.userId(), edge.otherUserId());
+                removeNeighbour(edge.otherUserId(), edge.userId());
+            }
+            usersRemovedWhileLoading.forEach(this::removeUserLocked);
+            edgesRemovedWhileLoading.clear();
+            usersRemovedWhileLoading.clear();
+            ready = true;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns the ids of all users with at least one connection.
+     */
+    public long[] userIds() {
+        return adjacency.keySet().stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Returns and clears the users whose connections changed since the previous call.
+     */
+    public Set<Long> drainChangedUsers() {
+        Set<Long> drained = new HashSet<>();
+        Iterator<Long> iterator = changedUsers.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    /**
+     * Returns the user's connections from the index, or from the database while the index is still loading.
+     */
+    public long[] connectedUserIds(long userId) {
+        if (ready) {
+            return neighbours(userId);
+        }
+        return connectionRepository.findConnectedUserIds(userId, Status.ACCEPTED).stream()
+                .mapToLong(Long::longValue).toArray();
+    }
+
+    public int degree(long userId) {
+        return neighbours(userId).length;
+    }
+
+    /**
+     * Returns the sorted ids of the user's connections. The array is shared and must not be modified.
+     */
+    public long[] neighbours(long userId) {
+        return adjacency.getOrDefault(userId, SortedLongArrays.EMPTY);
+    }
+
+    public boolean areConnected(long userId, long otherUserId) {
+        long[] a = neighbours(userId);
+        long[] b = neighbours(otherUserId);
+        return a.length <= b.length ? SortedLongArrays.contains(a, otherUserId) : SortedLongArrays.contains(b, userId);
+    }
+
+    public int countMutual(long userId, long otherUserId) {
+        return SortedLongArrays.intersectionSize(neighbours(userId), neighbours(otherUserId));
+    }
+
+    public long[] mutual(long userId, long otherUserId, int limit) {
+        return SortedLongArrays.intersection(neighbours(userId), neighbours(otherUserId), limit);
+    }
+
+    /**
+     * Returns the users two hops away, excluding the user and their direct connections.
+     */
+    public Roaring64Bitmap secondDegree(long userId) {
+        long[] direct = neighbours(userId);
+        Roaring64Bitmap result = new Roaring64Bitmap();
+        for (long neighbourId : direct) {
+            for (long candidateId : neighbours(neighbourId)) {
+                result.addLong(candidateId);
+            }
+        }
+        result.removeLong(userId);
+        for (long neighbourId : direct) {
+            result.removeLong(neighbourId);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a sample of up to {@code limit} ids from {@link #secondDegree(long)}, in increasing order.
+     * <p>
+     * Each connection contributes up to {@code limit / degree} of its own connections per round, read from a random
+     * offset, until the sample is full. The work stays close to {@code limit} however large the neighbourhood is, the
+     * sample is not skewed towards low (old) ids, and users with many mutual connections are more likely to be picked.
+     */
+    public long[] secondDegree(long userId, int limit) {
+        long[] direct = neighbours(userId);
+        if (limit <= 0 || direct.length == 0) {
+            return SortedLongArrays.EMPTY;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int active = direct.length;
+        long[][] lists = new long[active][];
+        int[] offsets = new int[active];
+        int[] taken = new int[active];
+        int first = random.nextInt(active);
+        for (int i = 0; i < active; i++) {
+            lists[i] = neighbours(direct[(first + i) % direct.length]);
+            offsets[i] = lists[i].length == 0 ? 0 : random.nextInt(lists[i].length);
+        }
+
+        int perRound = Math.max(1, (limit + direct.length - 1) / direct.length);
+        Roaring64Bitmap sampled = new Roaring64Bitmap();
+        LongBuffer sample = new LongBuffer();
+        while (active > 0 && sample.size() < limit) {
+            int stillActive = 0;
+            for (int i = 0; i < active && sample.size() < limit; i++) {
+                long[] list = lists[i];
+                int end = Math.min(taken[i] + perRound, list.length);
+                while (taken[i] < end && sample.size() < limit) {
+                    long candidateId = list[(offsets[i] + taken[i]++) % list.length];
+                    if (candidateId != userId && !sampled.contains(candidateId)
+                            && !SortedLongArrays.contains(direct, candidateId)) {
+                        sampled.addLong(candidateId);
+                        sample.add(candidateId);
+                    }
+                }
+                if (taken[i] < list.length) {
+                    lists[stillActive] = list;
+                    offsets[stillActive] = offsets[i];
+                    taken[stillActive] = taken[i];
+                    stillActive++;
+                }
+            }
+            active = stillActive;
+        }
+        return sample.toSortedArray();
+    }
+
+    /**
+     * Returns the number of hops between two users, -1 if they are more than {@code maxDepth} hops apart, or
+     * {@link #BUDGET_EXCEEDED} if the search sees more than {@code visitBudget} users before meeting. Searches from both users at once and
+     * always expands the side whose next level is cheaper, so the cost grows with the square root of a
+     * one-sided search.
+     */
+    public int distance(long userId, long otherUserId, int maxDepth, int visitBudget) {
+        if (userId == otherUserId) {
+            return 0;
+        }
+        Roaring64Bitmap seenFromUser = Roaring64Bitmap.bitmapOf(userId);
+        Roaring64Bitmap seenFromOther = Roaring64Bitmap.bitmapOf(otherUserId);
+        long[] userFrontier = {userId};
+        long[] otherFrontier = {otherUserId};
+        int userDepth = 0;
+        int otherDepth = 0;
+        int visited = 2;
+
+        while (userDepth + otherDepth < maxDepth && userFrontier.length > 0 && otherFrontier.length > 0) {
+            boolean fromUser = expansionCost(userFrontier) <= expansionCost(otherFrontier);
+            Roaring64Bitmap seen = fromUser ? seenFromUser : seenFromOther;
+            Roaring64Bitmap seenByOtherSide = fromUser ? seenFromOther : seenFromUser;
+            LongBuffer next = new LongBuffer();
+            for (long frontierUserId : fromUser ? userFrontier : otherFrontier) {
+                for (long neighbourId : neighbours(frontierUserId)) {
+                    // Levels are expanded whole, so the first meeting is on a shortest path.
+                    if (seenByOtherSide.contains(neighbourId)) {
+                        return userDepth + otherDepth + 1;
+                    }
+                    if (!seen.contains(neighbourId)) {
+                        if (++visited > visitBudget) {
+                            return BUDGET_EXCEEDED;
+                        }
+                        seen.addLong(neighbourId);
+                        next.add(neighbourId);
+                    }
+                }
+            }
+            if (fromUser) {
+                userFrontier = next.toSortedArray();
+                userDepth++;
+            } else {
+                otherFrontier = next.toSortedArray();
+                otherDepth++;
+            }
+        }
+        return -1;
+    }
+
+    private long expansionCost(long[] frontier) {
+        long cost = 0;
+        for (long userId : frontier) {
+            cost += degree(userId);
+        }
+        return cost;
+    }
+
+    public void addConnection(long userId, long otherUserId) {
+        synchronized (writeLock) {
+            if (!ready) {
+                edgesRemovedWhileLoading.remove(Edge.of(userId, otherUserId));
+            }
+            adjacency.put(userId, SortedLongArrays.insert(neighbours(userId), otherUserId));
+            adjacency.put(otherUserId, SortedLongArrays.insert(neighbours(otherUserId), userId));
+        }
+        changedUsers.add(userId);
+        changedUsers.add(otherUserId);
+    }
+
+    public void removeConnection(long userId, long otherUserId) {
+        synchronized (writeLock) {
+            if (!ready) {
+                edgesRemovedWhileLoading.add(Edge.of(userId, otherUserId));
+            }
+            removeNeighbour(userId, otherUserId);
+            removeNeighbour(otherUserId, userId);
+        }
+        changedUsers.add(userId);
+        changedUsers.add(otherUserId);
+    }
+
+    public void removeUser(long userId) {
+        synchronized (writeLock) {
+            if (!ready) {
+                usersRemovedWhileLoading.add(userId);
+            }
+            removeUserLocked(userId);
+        }
+    }
+
+    private void removeUserLocked(long userId) {
+        long[] direct = adjacency.remove(userId);
+        if (direct != null) {
+            for (long neighbourId : direct) {
+                removeNeighbour(neighbourId, userId);
+                changedUsers.add(neighbourId);
+            }
+        }
+    }
+
+    private void removeNeighbour(long userId, long neighbourId) {
+        long[] remaining = SortedLongArrays.remove(neighbours(userId), neighbourId);
+        if (remaining.length == 0) {
+            adjacency.remove(userId);
+        } else {
+            adjacency.put(userId, remaining);
+        }
+    }
+
+    private record Edge(long userId, long otherUserId) {
+        static Edge of(long userId, long otherUserId) {
+            return new Edge(Math.min(userId, otherUserId), Math.max(userId, otherUserId));
+        }
+    }
+
+    private static final class LongBuffer {
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long[] toSortedArray() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+            return distinct == sorted.length ? sorted : Arrays.copyOf(sorted, distinct);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.linkedin.backend.features.networking.utils;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns profile attribute values (company, position, location) into small integer ids, compared
+ * case-insensitively. Null and blank values map to {@link #UNKNOWN}, which never matches.
+ */
+public class ProfileFeatureDictionary {
+    public static final int UNKNOWN = 0;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger(UNKNOWN + 1);
+
+    public int intern(String value) {
+        if (value == null || value.isBlank()) {
+            return UNKNOWN;
+        }
+        return ids.computeIfAbsent(value.trim().toLowerCase(Locale.ROOT), key -> nextId.getAndIncrement());
+    }
+
+    public int size() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,71 @@
+package com.linkedin.backend.features.networking.utils;
+
+import com.linkedin.backend.features.authentication.dto.UserProfile;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Profiles of a set of users, as interned attribute ids in parallel primitive arrays sorted by user id.
+ * Immutable once built, so it can be shared by the threads ranking users.
+ */
+public class ProfileFeatureTable {
+    private final long[] userIds;
+    private final int[] companies;
+    private final int[] positions;
+    private final int[] locations;
+    private final boolean[] complete;
+
+    private ProfileFeatureTable(int size) {
+        this.userIds = new long[size];
+        this.companies = new int[size];
+        this.positions = new int[size];
+        this.locations = new int[size];
+        this.complete = new boolean[size];
+    }
+
+    public static ProfileFeatureTable of(List<UserProfile> profiles, ProfileFeatureDictionary companyIds,
+                                         ProfileFeatureDictionary positionIds, ProfileFeatureDictionary locationIds) {
+        UserProfile[] sorted = profiles.toArray(UserProfile[]::new);
+        Arrays.sort(sorted, Comparator.comparing(UserProfile::id));
+        ProfileFeatureTable table = new ProfileFeatureTable(sorted.length);
+        for (int slot = 0; slot < sorted.length; slot++) {
+            UserProfile profile = sorted[slot];
+            table.userIds[slot] = profile.id();
+            table.companies[slot] = companyIds.intern(profile.company());
+            table.positions[slot] = positionIds.intern(profile.position());
+            table.locations[slot] = locationIds.intern(profile.location());
+            table.complete[slot] = Boolean.TRUE.equals(profile.profileComplete());
+        }
+        return table;
+    }
+
+    /**
+     * Returns the user's slot in the arrays, or -1 if the user is not in the table.
+     */
+    public int slotOf(long userId) {
+        int slot = Arrays.binarySearch(userIds, userId);
+        return slot >= 0 ? slot : -1;
+    }
+
+    public int size() {
+        return userIds.length;
+    }
+
+    public int company(int slot) {
+        return companies[slot];
+    }
+
+    public int position(int slot) {
+        return positions[slot];
+    }
+
+    public int location(int slot) {
+        return locations[slot];
+    }
+
+    public boolean isComplete(int slot) {
+        return complete[slot];
+    }
+}
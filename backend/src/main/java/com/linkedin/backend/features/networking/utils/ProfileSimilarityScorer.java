@@ -0,0 +1,33 @@
+package com.linkedin.backend.features.networking.utils;
+
+/**
+ * Scores candidates against one user: 3 for the same company, 2 for the same position, 1.5 for the same location
+ * and 0.5 per mutual connection. Attributes are interned ids, the user's {@link ProfileFeatureDictionary#UNKNOWN}
+ * attributes match nothing.
+ */
+public class ProfileSimilarityScorer {
+
+    public void score(int company, int position, int location, int[] companies, int[] positions, int[] locations,
+                      int[] mutualCounts, int length, float[] scores) {
+        int companyId = queryId(company);
+        int positionId = queryId(position);
+        int locationId = queryId(location);
+        for (int i = 0; i < length; i++) {
+            float score = mutualCounts[i] * 0.5f;
+            if (companies[i] == companyId) {
+                score += 3f;
+            }
+            if (positions[i] == positionId) {
+                score += 2f;
+            }
+            if (locations[i] == locationId) {
+                score += 1.5f;
+            }
+            scores[i] = score;
+        }
+    }
+
+    static int queryId(int attributeId) {
+        return attributeId == ProfileFeatureDictionary.UNKNOWN ? -1 : attributeId;
+    }
+}
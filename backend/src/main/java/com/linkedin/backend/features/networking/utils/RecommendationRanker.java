@@ -0,0 +1,51 @@
+package com.linkedin.backend.features.networking.utils;
+
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the {@code size} best-scored candidates in a min-heap, so ranking costs O(n log size) and
+ * O(size) memory however many candidates are offered. Ties go to the lower user id.
+ */
+public class RecommendationRanker {
+    private final int size;
+    private final PriorityQueue<Candidate> top;
+
+    public RecommendationRanker(int size) {
+        this.size = size;
+        this.top = new PriorityQueue<>(size + 1);
+    }
+
+    public void offer(long userId, double score) {
+        if (size == 0) {
+            return;
+        }
+        if (top.size() == size) {
+            Candidate worst = top.peek();
+            if (score < worst.score || (score == worst.score && userId > worst.userId)) {
+                return;
+            }
+            top.poll();
+        }
+        top.offer(new Candidate(userId, score));
+    }
+
+    /**
+     * Returns the retained user ids, best first.
+     */
+    public long[] ranked() {
+        long[] ids = new long[top.size()];
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(top);
+        for (int i = ids.length - 1; i >= 0; i--) {
+            ids[i] = heap.poll().userId;
+        }
+        return ids;
+    }
+
+    private record Candidate(long userId, double score) implements Comparable<Candidate> {
+        @Override
+        public int compareTo(Candidate other) {
+            int byScore = Double.compare(score, other.score);
+            return byScore != 0 ? byScore : Long.compare(other.userId, userId);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.linkedin.backend.features.networking.utils;
+
+import java.util.Arrays;
+
+/**
+ * Set operations on strictly increasing {@code long[]}, the representation of adjacency lists in the
+ * connection graph.
+ */
+public final class SortedLongArrays {
+    public static final long[] EMPTY = new long[0];
+
+    private SortedLongArrays() {
+    }
+
+    public static boolean contains(long[] values, long value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    /**
+     * Returns a copy with the value inserted, or the same array if it is already present.
+     */
+    public static long[] insert(long[] values, long value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index >= 0) {
+            return values;
+        }
+        int insertionPoint = -index - 1;
+        long[] result = new long[values.length + 1];
+        System.arraycopy(values, 0, result, 0, insertionPoint);
+        result[insertionPoint] = value;
+        System.arraycopy(values, insertionPoint, result, insertionPoint + 1, values.length - insertionPoint);
+        return result;
+    }
+
+    /**
+     * Returns a copy without the value, or the same array if it is absent.
+     */
+    public static long[] remove(long[] values, long value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index < 0) {
+            return values;
+        }
+        long[] result = new long[values.length - 1];
+        System.arraycopy(values, 0, result, 0, index);
+        System.arraycopy(values, index + 1, result, index, values.length - index - 1);
+        return result;
+    }
+
+    public static long[] union(long[] a, long[] b) {
+        long[] result = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                result[size++] = a[i++];
+            } else if (a[i] > b[j]) {
+                result[size++] = b[j++];
+            } else {
+                result[size++] = a[i++];
+                j++;
+            }
+        }
+        while (i < a.length) {
+            result[size++] = a[i++];
+        }
+        while (j < b.length) {
+            result[size++] = b[j++];
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    public static int intersectionSize(long[] a, long[] b) {
+        return intersect(a, b, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns up to {@code limit} common values in increasing order.
+     */
+    public static long[] intersection(long[] a, long[] b, int limit) {
+        long[] buffer = new long[Math.min(limit, Math.min(a.length, b.length))];
+        int size = intersect(a, b, buffer, buffer.length);
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    private static int intersect(long[] a, long[] b, long[] out, int limit) {
+        long[] small = a.length <= b.length ? a : b;
+        long[] large = small == a ? b : a;
+        if (small.length == 0 || limit == 0) {
+            return 0;
+        }
+
+        int count = 0;
+        // A linear merge costs |small| + |large|, binary searches cost |small| * log |large|.
+        if ((long) small.length * (64 - Long.numberOfLeadingZeros(large.length)) < small.length + large.length) {
+            int from = 0;
+            for (long value : small) {
+                int index = Arrays.binarySearch(large, from, large.length, value);
+                if (index >= 0) {
+                    if (out != null) {
+                        out[count] = value;
+                    }
+                    if (++count == limit) {
+                        break;
+                    }
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                    if (from == large.length) {
+                        break;
+                    }
+                }
+            }
+            return count;
+        }
+
+        int i = 0;
+        int j = 0;
+        while (i < small.length && j < large.length) {
+            if (small[i] < large[j]) {
+                i++;
+            } else if (small[i] > large[j]) {
+                j++;
+            } else {
+                if (out != null) {
+                    out[count] = small[i];
+                }
+                if (++count == limit) {
+                    break;
+                }
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+}
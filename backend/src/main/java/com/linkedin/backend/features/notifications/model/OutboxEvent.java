@@ -0,0 +1,69 @@
+package com.linkedin.backend.features.notifications.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+/**
+ * A WebSocket message recorded in the same transaction as the write it reports, and sent once that transaction
+ * has committed. The payload is the JSON body, serialized when the event is recorded. The owner is the instance
+ * that recorded the event, the only one whose in-memory broker holds the sessions it is meant for.
+ */
+@Entity(name = "outbox_events")
+@Table(indexes = @Index(name = "idx_outbox_events_owner_id", columnList = "owner, id"))
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String owner;
+
+    @Column(nullable = false)
+    private String destination;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String payload;
+
+    @CreationTimestamp
+    private LocalDateTime creationDate;
+
+    public OutboxEvent() {
+    }
+
+    public OutboxEvent(String owner, String destination, String payload) {
+        this.owner = owner;
+        this.destination = destination;
+        this.payload = payload;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getCreationDate() {
+        return creationDate;
+    }
+}
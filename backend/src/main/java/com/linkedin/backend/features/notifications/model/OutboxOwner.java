@@ -0,0 +1,37 @@
+package com.linkedin.backend.features.notifications.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * Heartbeat of an instance draining the outbox. Events of an owner that has not been seen for a while are left by
+ * a stopped instance and can be purged.
+ */
+@Entity(name = "outbox_owners")
+public class OutboxOwner {
+    @Id
+    @Column(length = 64)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime lastSeen;
+
+    public OutboxOwner() {
+    }
+
+    public OutboxOwner(String owner, LocalDateTime lastSeen) {
+        this.owner = owner;
+        this.lastSeen = lastSeen;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public LocalDateTime getLastSeen() {
+        return lastSeen;
+    }
+}
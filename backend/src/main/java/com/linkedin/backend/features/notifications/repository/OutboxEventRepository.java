@@ -0,0 +1,25 @@
+package com.linkedin.backend.features.notifications.repository;
+
+import com.linkedin.backend.features.notifications.model.OutboxEvent;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    List<OutboxEvent> findByOwnerAndIdLessThanOrderByIdAsc(String owner, Long id, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM outbox_events e WHERE e.owner = :owner")
+    long findMaxIdByOwner(@Param("owner") String owner);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM outbox_events e WHERE e.creationDate < :before AND e.owner NOT IN "
+            + "(SELECT o.owner FROM outbox_owners o WHERE o.lastSeen >= :before)")
+    int deleteOfOwnersNotSeenSince(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,17 @@
+package com.linkedin.backend.features.notifications.repository;
+
+import com.linkedin.backend.features.notifications.model.OutboxOwner;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface OutboxOwnerRepository extends JpaRepository<OutboxOwner, String> {
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM outbox_owners o WHERE o.lastSeen < :before")
+    int deleteSeenBefore(@Param("before") LocalDateTime before);
+}
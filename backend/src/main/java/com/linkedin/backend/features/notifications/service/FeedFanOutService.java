@@ -0,0 +1,130 @@
+package com.linkedin.backend.features.notifications.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.backend.features.networking.service.SocialGraphIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes new posts to the live feeds of the author's connections.
+ * <p>
+ * The payload is serialized once on the request thread. After the transaction commits, followers are resolved from
+ * the {@link SocialGraphIndex} (or an id-only query while it loads) and the same frame is sent to every follower
+ * destination in batches of {@code batchSize} on a bounded pool. Fan-outs that do not fit in the pool are dropped
+ * and counted, live feed updates are best effort and readers still see the post on their next feed load.
+ */
+@Service
+public class FeedFanOutService {
+    private static final Logger logger = LoggerFactory.getLogger(FeedFanOutService.class);
+
+    private final SocialGraphIndex socialGraphIndex;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final ThreadPoolExecutor workers;
+    private final Timer lag;
+    private final Counter deliveries;
+    private final Counter dropped;
+
+    public FeedFanOutService(SocialGraphIndex socialGraphIndex, SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${feed.fan-out.batch-size:500}") int batchSize,
+                             @Value("${feed.fan-out.workers:2}") int workers,
+                             @Value("${feed.fan-out.queue-capacity:1024}") int queueCapacity) {
+        this.socialGraphIndex = socialGraphIndex;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.workers = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> new Thread(runnable, "feed-fan-out"));
+        this.lag = Timer.builder("feed.fanout.lag")
+                .description("Time from commit until a batch of followers has been sent the post")
+                .register(meterRegistry);
+        this.deliveries = meterRegistry.counter("feed.fanout.deliveries");
+        this.dropped = meterRegistry.counter("feed.fanout.dropped");
+        meterRegistry.gauge("feed.fanout.queue", this.workers, executor -> executor.getQueue().size());
+    }
+
+    public void fanOut(Long authorId, Object post) {
+        Message<byte[]> frame = MessageBuilder.withPayload(serialize(post))
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                .build();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(() -> dispatch(authorId, frame, System.nanoTime()));
+                }
+            });
+        } else {
+            submit(() -> dispatch(authorId, frame, System.nanoTime()));
+        }
+    }
+
+    private void dispatch(Long authorId, Message<byte[]> frame, long committedAt) {
+        long[] followerIds = socialGraphIndex.connectedUserIds(authorId);
+
+        for (int from = 0; from < followerIds.length; from += batchSize) {
+            int start = from;
+            int end = Math.min(from + batchSize, followerIds.length);
+            if (end == followerIds.length) {
+                // The last batch runs on this thread, it is already off the request path.
+                sendBatch(followerIds, start, end, frame, committedAt);
+            } else {
+                submit(() -> sendBatch(followerIds, start, end, frame, committedAt));
+            }
+        }
+    }
+
+    private void sendBatch(long[] followerIds, int from, int to, Message<byte[]> frame, long committedAt) {
+        for (int i = from; i < to; i++) {
+            try {
+                messagingTemplate.send("/topic/feed/" + followerIds[i] + "/post", frame);
+            } catch (RuntimeException e) {
+                logger.warn("Dropping feed update to user {}", followerIds[i], e);
+            }
+        }
+        deliveries.increment(to - from);
+        lag.record(System.nanoTime() - committedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private void submit(Runnable task) {
+        try {
+            workers.execute(task);
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+        }
+    }
+
+    private byte[] serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize feed update", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
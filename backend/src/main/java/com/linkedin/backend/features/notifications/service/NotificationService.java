@@ -1,29 +1,31 @@
 package com.linkedin.backend.features.notifications.service;
 
 import com.linkedin.backend.features.authentication.model.User;
-import com.linkedin.backend.features.feed.model.Comment;
-import com.linkedin.backend.features.feed.model.Post;
-import com.linkedin.backend.features.messaging.model.Conversation;
-import com.linkedin.backend.features.messaging.model.Message;
+import com.linkedin.backend.features.feed.dto.CommentView;
+import com.linkedin.backend.features.feed.dto.LikeEvent;
+import com.linkedin.backend.features.feed.dto.PostView;
+import com.linkedin.backend.features.messaging.dto.InboxSummary;
+import com.linkedin.backend.features.messaging.dto.MessageView;
+import com.linkedin.backend.features.messaging.dto.ReadReceipt;
 import com.linkedin.backend.features.networking.model.Connection;
-import com.linkedin.backend.features.networking.model.Status;
 import com.linkedin.backend.features.notifications.model.Notification;
 import com.linkedin.backend.features.notifications.model.NotificationType;
 import com.linkedin.backend.features.notifications.repository.NotificationRepository;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Set;
 
 @Service
 public class NotificationService {
     private final NotificationRepository notificationRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final OutboxService outboxService;
+    private final FeedFanOutService feedFanOutService;
 
-    public NotificationService(NotificationRepository notificationRepository, SimpMessagingTemplate messagingTemplate) {
+    public NotificationService(NotificationRepository notificationRepository, OutboxService outboxService,
+                               FeedFanOutService feedFanOutService) {
         this.notificationRepository = notificationRepository;
-        this.messagingTemplate = messagingTemplate;
+        this.outboxService = outboxService;
+        this.feedFanOutService = feedFanOutService;
     }
 
     public List<Notification> getUserNotifications(User user) {
@@ -31,36 +33,27 @@ public class NotificationService {
     }
 
     public void sendDeleteNotificationToPost(Long postId) {
-        messagingTemplate.convertAndSend("/topic/posts/" + postId + "/delete", postId);
+        outboxService.publish("/topic/posts/" + postId + "/delete", postId);
     }
 
-    public void sendEditNotificationToPost(Long postId, Post post) {
-        messagingTemplate.convertAndSend("/topic/posts/" + postId + "/edit", post);
+    public void sendEditNotificationToPost(Long postId, PostView post) {
+        outboxService.publish("/topic/posts/" + postId + "/edit", post);
     }
 
-    public void sendNewPostNotificationToFeed(Post post) {
-        for (Connection connection : post.getAuthor().getInitiatedConnections()) {
-            if (connection.getStatus().equals(Status.ACCEPTED)) {
-                messagingTemplate.convertAndSend("/topic/feed/" + connection.getRecipient().getId() + "/post", post);
-            }
-        }
-        for (Connection connection : post.getAuthor().getReceivedConnections()) {
-            if (connection.getStatus().equals(Status.ACCEPTED)) {
-                messagingTemplate.convertAndSend("/topic/feed/" + connection.getAuthor().getId() + "/post", post);
-            }
-        }
+    public void sendNewPostNotificationToFeed(Long authorId, PostView post) {
+        feedFanOutService.fanOut(authorId, post);
     }
 
-    public void sendLikeToPost(Long postId, Set<User> likes) {
-        messagingTemplate.convertAndSend("/topic/likes/" + postId, likes);
+    public void sendLikeToPost(Long postId, LikeEvent likeEvent) {
+        outboxService.sendAfterCommit("/topic/likes/" + postId, likeEvent);
     }
 
-    public void sendCommentToPost(Long postId, Comment comment) {
-        messagingTemplate.convertAndSend("/topic/comments/" + postId, comment);
+    public void sendCommentToPost(Long postId, CommentView comment) {
+        outboxService.publish("/topic/comments/" + postId, comment);
     }
 
-    public void sendDeleteCommentToPost(Long postId, Comment comment) {
-        messagingTemplate.convertAndSend("/topic/comments/" + postId + "/delete", comment);
+    public void sendDeleteCommentToPost(Long postId, CommentView comment) {
+        outboxService.publish("/topic/comments/" + postId + "/delete", comment);
     }
 
 
@@ -76,7 +69,7 @@ public class NotificationService {
                 resourceId);
         notificationRepository.save(notification);
 
-        messagingTemplate.convertAndSend("/topic/users/" + recipient.getId() + "/notifications", notification);
+        outboxService.publish("/topic/users/" + recipient.getId() + "/notifications", notification);
     }
 
     public void sendLikeNotification(User author, User recipient, Long resourceId) {
@@ -91,45 +84,50 @@ public class NotificationService {
                 resourceId);
         notificationRepository.save(notification);
 
-        messagingTemplate.convertAndSend("/topic/users/" + recipient.getId() + "/notifications", notification);
+        // The notification is stored, the push is only a live update of it.
+        outboxService.sendAfterCommit("/topic/users/" + recipient.getId() + "/notifications", notification);
     }
 
     public Notification markNotificationAsRead(Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new IllegalArgumentException("Notification not found"));
         notification.setRead(true);
-        messagingTemplate.convertAndSend("/topic/users/" + notification.getRecipient().getId() + "/notifications",
-                notification);
-        return notificationRepository.save(notification);
+        Notification savedNotification = notificationRepository.save(notification);
+        outboxService.publish("/topic/users/" + notification.getRecipient().getId() + "/notifications",
+                savedNotification);
+        return savedNotification;
+    }
+
+    public void sendInboxUpdateToUser(Long userId, InboxSummary summary) {
+        outboxService.publish("/topic/users/" + userId + "/inbox", summary);
     }
 
-    public void sendConversationToUsers(Long senderId, Long receiverId, Conversation conversation) {
-        messagingTemplate.convertAndSend("/topic/users/" + senderId + "/conversations", conversation);
-        messagingTemplate.convertAndSend("/topic/users/" + receiverId + "/conversations", conversation);
+    public void sendMessageToConversation(Long conversationId, MessageView message) {
+        outboxService.publish("/topic/conversations/" + conversationId + "/messages", message);
     }
 
-    public void sendMessageToConversation(Long conversationId, Message message) {
-        messagingTemplate.convertAndSend("/topic/conversations/" + conversationId + "/messages", message);
+    public void sendReadReceiptToConversation(Long conversationId, ReadReceipt receipt) {
+        outboxService.publish("/topic/conversations/" + conversationId + "/reads", receipt);
     }
 
     public void sendNewInvitationToUsers(Long senderId, Long receiverId, Connection connection) {
-        messagingTemplate.convertAndSend("/topic/users/" + receiverId + "/connections/new", connection);
-        messagingTemplate.convertAndSend("/topic/users/" + senderId + "/connections/new", connection);
+        outboxService.publish("/topic/users/" + receiverId + "/connections/new", connection);
+        outboxService.publish("/topic/users/" + senderId + "/connections/new", connection);
     }
 
 
     public void sendInvitationAcceptedToUsers(Long senderId, Long receiverId, Connection connection) {
-        messagingTemplate.convertAndSend("/topic/users/" + receiverId + "/connections/accepted", connection);
-        messagingTemplate.convertAndSend("/topic/users/" + senderId + "/connections/accepted", connection);
+        outboxService.publish("/topic/users/" + receiverId + "/connections/accepted", connection);
+        outboxService.publish("/topic/users/" + senderId + "/connections/accepted", connection);
     }
 
     public void sendRemoveConnectionToUsers(Long senderId, Long receiverId, Connection connection) {
-        messagingTemplate.convertAndSend("/topic/users/" + receiverId + "/connections/remove", connection);
-        messagingTemplate.convertAndSend("/topic/users/" + senderId + "/connections/remove", connection);
+        outboxService.publish("/topic/users/" + receiverId + "/connections/remove", connection);
+        outboxService.publish("/topic/users/" + senderId + "/connections/remove", connection);
     }
 
     public void sendConnectionSeenNotification(Long id, Connection connection) {
-        messagingTemplate.convertAndSend("/topic/users/" + id + "/connections/seen", connection);
+        outboxService.publish("/topic/users/" + id + "/connections/seen", connection);
     }
 
 
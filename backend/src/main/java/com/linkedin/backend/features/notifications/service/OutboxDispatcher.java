@@ -0,0 +1,235 @@
+package com.linkedin.backend.features.notifications.service;
+
+import com.linkedin.backend.features.notifications.model.OutboxEvent;
+import com.linkedin.backend.features.notifications.model.OutboxOwner;
+import com.linkedin.backend.features.notifications.repository.OutboxEventRepository;
+import com.linkedin.backend.features.notifications.repository.OutboxOwnerRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Sends committed outbox events off the request threads.
+ * <p>
+ * One coordinator thread drains the outbox in id order, {@code batchSize} events at a time. It groups each batch
+ * by destination and hands the groups to a bounded worker pool, so events for one destination stay in order.
+ * A full pool makes the coordinator send the group itself. Events are deleted once sent. A periodic poll picks
+ * up events committed while no drain was scheduled.
+ * <p>
+ * Ids are assigned at insert, so a later id can commit first. Inserts therefore go through {@link #record}, and a
+ * drain only reads events below the oldest one whose transaction has not completed, and below every id handed
+ * out when the drain started. Events of one destination are sent in commit order.
+ * <p>
+ * Each instance only drains the events it recorded, tagged with its {@code outbox.owner}: the STOMP broker is in
+ * memory, so no other instance holds the sessions they are for. Instances record a heartbeat on every purge run,
+ * and events of instances not seen within {@code outbox.retention} are purged once that old. The retention must
+ * be longer than {@code outbox.purge-interval}.
+ */
+@Component
+public class OutboxDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxOwnerRepository outboxOwnerRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final String owner;
+    private final int batchSize;
+    private final Duration retention;
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(
+            runnable -> new Thread(runnable, "outbox-coordinator"));
+    private final ThreadPoolExecutor workers;
+    private final AtomicBoolean requested = new AtomicBoolean();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ReadWriteLock insertLock = new ReentrantReadWriteLock();
+    private final NavigableSet<Long> uncommitted = new ConcurrentSkipListSet<>();
+    private final AtomicLong lastInserted = new AtomicLong();
+    private boolean leftoversCounted;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository, OutboxOwnerRepository outboxOwnerRepository,
+                            SimpMessagingTemplate messagingTemplate,
+                            @Value("${outbox.owner:}") String owner,
+                            @Value("${outbox.dispatch.batch-size:100}") int batchSize,
+                            @Value("${outbox.dispatch.workers:4}") int workers,
+                            @Value("${outbox.dispatch.queue-capacity:64}") int queueCapacity,
+                            @Value("${outbox.retention:1h}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxOwnerRepository = outboxOwnerRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.owner = owner.isBlank() ? UUID.randomUUID().toString() : owner;
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.workers = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Returns the id this instance tags its outbox events with.
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Runs {@code insert}, which saves an event and returns its id. A {@code pending} event is one of a transaction
+     * that has not committed yet: it holds back itself and every later event until {@link #complete} is called.
+     */
+    public Long record(Supplier<Long> insert, boolean pending) {
+        insertLock.readLock().lock();
+        try {
+            Long id = insert.get();
+            if (pending) {
+                uncommitted.add(id);
+            }
+            lastInserted.accumulateAndGet(id, Math::max);
+            return id;
+        } finally {
+            insertLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Releases a pending event once its transaction has completed. Even a rollback may release later events that
+     * committed behind it, so both outcomes trigger a drain.
+     */
+    public void complete(Long id) {
+        uncommitted.remove(id);
+        wake();
+    }
+
+    public void wake() {
+        requested.set(true);
+        if (running.compareAndSet(false, true)) {
+            coordinator.execute(this::drain);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatch.poll-interval:5000}")
+    public void poll() {
+        wake();
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.purge-interval:600000}")
+    public void purgeStale() {
+        LocalDateTime now = LocalDateTime.now();
+        outboxOwnerRepository.save(new OutboxOwner(owner, now));
+        LocalDateTime before = now.minus(retention);
+        int purged = outboxEventRepository.deleteOfOwnersNotSeenSince(before);
+        outboxOwnerRepository.deleteSeenBefore(before);
+        if (purged > 0) {
+            logger.warn("Purged {} outbox events of instances not seen for {}", purged, retention);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (requested.getAndSet(false)) {
+                dispatchPending();
+            }
+        } catch (RuntimeException e) {
+            logger.error("Outbox dispatch failed, retrying on next poll", e);
+        } finally {
+            running.set(false);
+        }
+        if (requested.get()) {
+            wake();
+        }
+    }
+
+    void dispatchPending() {
+        if (!leftoversCounted) {
+            // Events left by an earlier run under the same owner have all completed.
+            lastInserted.accumulateAndGet(outboxEventRepository.findMaxIdByOwner(owner), Math::max);
+            leftoversCounted = true;
+        }
+        List<OutboxEvent> batch;
+        do {
+            batch = outboxEventRepository.findByOwnerAndIdLessThanOrderByIdAsc(owner, dispatchBound(),
+                    PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            Map<String, List<OutboxEvent>> byDestination = new LinkedHashMap<>();
+            for (OutboxEvent event : batch) {
+                byDestination.computeIfAbsent(event.getDestination(), destination -> new ArrayList<>()).add(event);
+            }
+            List<CompletableFuture<Void>> sends = new ArrayList<>(byDestination.size());
+            for (List<OutboxEvent> events : byDestination.values()) {
+                sends.add(CompletableFuture.runAsync(() -> events.forEach(this::send), workers));
+            }
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+
+            outboxEventRepository.deleteAllByIdInBatch(batch.stream().map(OutboxEvent::getId).toList());
+        } while (batch.size() == batchSize);
+    }
+
+    /**
+     * Returns the id below which every event of this instance has committed or rolled back. Taking the write lock
+     * waits out inserts that have an id but are not tracked yet, and ids handed out later are above the bound.
+     */
+    private long dispatchBound() {
+        insertLock.writeLock().lock();
+        try {
+            Long oldestUncommitted = uncommitted.ceiling(Long.MIN_VALUE);
+            return oldestUncommitted != null ? oldestUncommitted : lastInserted.get() + 1;
+        } finally {
+            insertLock.writeLock().unlock();
+        }
+    }
+
+    private void send(OutboxEvent event) {
+        send(event.getDestination(), event.getPayload());
+    }
+
+    /**
+     * Sends a serialized payload right away, without recording it.
+     */
+    public void send(String destination, String payload) {
+        try {
+            Message<byte[]> message = MessageBuilder.withPayload(payload.getBytes(StandardCharsets.UTF_8))
+                    .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                    .build();
+            messagingTemplate.send(destination, message);
+        } catch (RuntimeException e) {
+            // The broker is in memory, a failed send will not succeed on retry.
+            logger.warn("Dropping event to {}", destination, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdown();
+        workers.shutdown();
+    }
+}
@@ -0,0 +1,60 @@
+package com.linkedin.backend.features.notifications.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.backend.features.notifications.model.OutboxEvent;
+import com.linkedin.backend.features.notifications.repository.OutboxEventRepository;
+import com.linkedin.backend.utils.AfterCommit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Records WebSocket events with the write they belong to. Inside a transaction the event is only visible, and
+ * only dispatched, once that transaction commits, so a rolled back write never reaches clients.
+ * <p>
+ * High-frequency events that clients can do without, such as likes, skip the outbox table through
+ * {@link #sendAfterCommit}: they are still held back until the commit, but lost if the instance stops first.
+ */
+@Service
+public class OutboxService {
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDispatcher outboxDispatcher;
+    private final ObjectMapper objectMapper;
+
+    public OutboxService(OutboxEventRepository outboxEventRepository, OutboxDispatcher outboxDispatcher,
+                         ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxDispatcher = outboxDispatcher;
+        this.objectMapper = objectMapper;
+    }
+
+    public void publish(String destination, Object payload) {
+        OutboxEvent event = new OutboxEvent(outboxDispatcher.getOwner(), destination, serialize(payload));
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        Long id = outboxDispatcher.record(() -> outboxEventRepository.save(event).getId(), inTransaction);
+        if (inTransaction) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    outboxDispatcher.complete(id);
+                }
+            });
+        } else {
+            outboxDispatcher.wake();
+        }
+    }
+
+    public void sendAfterCommit(String destination, Object payload) {
+        String json = serialize(payload);
+        AfterCommit.run(() -> outboxDispatcher.send(destination, json));
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize event payload", e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.linkedin.backend.features.authentication.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.linkedin.backend.features.authentication.dto.UserPrincipal;
+import com.linkedin.backend.features.authentication.model.User;
+import com.linkedin.backend.features.authentication.service.AuthenticationService;
+import com.linkedin.backend.features.authentication.utils.JsonWebToken;
+
+import jakarta.servlet.ServletRequest;
+
+class AuthenticationFilterTests {
+    private static final UserPrincipal PRINCIPAL = new UserPrincipal(7L, "user@example.com", 3L);
+
+    private final JsonWebToken jsonWebToken = mock(JsonWebToken.class);
+    private final AuthenticationService authenticationService = mock(AuthenticationService.class);
+    private final AuthenticationFilter filter = new AuthenticationFilter(jsonWebToken, authenticationService);
+
+    @Test
+    void setsThePrincipalWithoutLoadingTheUser() throws Exception {
+        when(jsonWebToken.parseToken("token")).thenReturn(PRINCIPAL);
+
+        ServletRequest request = authenticate(new MockHttpServletResponse());
+
+        assertEquals(PRINCIPAL, request.getAttribute(AuthenticationFilter.AUTHENTICATED_PRINCIPAL));
+        verify(authenticationService, never()).getAuthenticatedUser(any());
+    }
+
+    @Test
+    void loadsTheUserOnFirstAccessOnly() throws Exception {
+        User user = mock(User.class);
+        when(jsonWebToken.parseToken("token")).thenReturn(PRINCIPAL);
+        when(authenticationService.getAuthenticatedUser(PRINCIPAL)).thenReturn(user);
+
+        ServletRequest request = authenticate(new MockHttpServletResponse());
+
+        assertSame(user, request.getAttribute(AuthenticationFilter.AUTHENTICATED_USER));
+        assertSame(user, request.getAttribute(AuthenticationFilter.AUTHENTICATED_USER));
+        verify(authenticationService, times(1)).getAuthenticatedUser(PRINCIPAL);
+    }
+
+    @Test
+    void rejectsTokensOfDeletedUsers() throws Exception {
+        when(jsonWebToken.parseToken("token")).thenReturn(PRINCIPAL);
+        when(authenticationService.getUserById(7L)).thenThrow(new IllegalArgumentException("User not found."));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertNull(authenticate(response));
+        assertEquals(401, response.getStatus());
+    }
+
+    @Test
+    void rejectsRequestsWithoutToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/feed");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            throw new AssertionError("Unauthenticated request reached the controller");
+        });
+
+        assertEquals(401, response.getStatus());
+    }
+
+    /**
+     * Runs an authenticated request through the filter and returns the request the chain received, or null.
+     */
+    private ServletRequest authenticate(MockHttpServletResponse response) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/feed");
+        request.addHeader("Authorization", "Bearer token");
+        AtomicReference<ServletRequest> forwarded = new AtomicReference<>();
+        filter.doFilter(request, response, (req, res) -> forwarded.set(req));
+        return forwarded.get();
+    }
+}
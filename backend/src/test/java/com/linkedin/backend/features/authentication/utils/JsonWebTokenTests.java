@@ -0,0 +1,96 @@
+package com.linkedin.backend.features.authentication.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import com.linkedin.backend.features.authentication.dto.UserPrincipal;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+
+class JsonWebTokenTests {
+    private static final String SECRET = "8dc2d2829a1bc4e11a57ca66da09c0cdb547c4e03d6108c629160e50d536bfe2";
+
+    private final JsonWebToken jsonWebToken = spy(new JsonWebToken(mock(JwksKeyStore.class), SECRET));
+
+    @Test
+    void readsThePrincipalFromTheClaims() {
+        String token = token(7L, 3L, System.currentTimeMillis() + 60_000);
+
+        assertEquals(new UserPrincipal(7L, "user@example.com", 3L), jsonWebToken.parseToken(token));
+    }
+
+    @Test
+    void tokensWithoutUserIdYieldAPrincipalWithoutId() {
+        String token = Jwts.builder()
+                .subject("user@example.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(jsonWebToken.getKey())
+                .compact();
+
+        assertEquals(new UserPrincipal(null, "user@example.com", 0), jsonWebToken.parseToken(token));
+    }
+
+    @Test
+    void verifiesEachTokenOnce() {
+        String token = token(7L, 3L, System.currentTimeMillis() + 60_000);
+
+        jsonWebToken.parseToken(token);
+        jsonWebToken.parseToken(token);
+        jsonWebToken.parseToken(token);
+
+        verify(jsonWebToken, times(1)).verify(token);
+    }
+
+    @Test
+    void verifiesAgainOnceTheCachedTokenExpired() {
+        String token = token(7L, 3L, System.currentTimeMillis() + 60_000);
+        UserPrincipal principal = new UserPrincipal(7L, "user@example.com", 3L);
+        doReturn(new JsonWebToken.VerifiedToken(principal, System.currentTimeMillis() - 1))
+                .when(jsonWebToken).verify(token);
+
+        jsonWebToken.parseToken(token);
+        jsonWebToken.parseToken(token);
+
+        verify(jsonWebToken, times(2)).verify(token);
+    }
+
+    @Test
+    void rejectsExpiredTokens() {
+        String token = token(7L, 3L, System.currentTimeMillis() - 60_000);
+
+        assertThrows(ExpiredJwtException.class, () -> jsonWebToken.parseToken(token));
+    }
+
+    @Test
+    void rejectsTokensSignedWithAnotherKey() {
+        JsonWebToken other = new JsonWebToken(mock(JwksKeyStore.class), SECRET.replace('8', '9'));
+        String token = Jwts.builder()
+                .subject("user@example.com")
+                .claim("uid", 7L)
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(other.getKey())
+                .compact();
+
+        assertThrows(RuntimeException.class, () -> jsonWebToken.parseToken(token));
+    }
+
+    private String token(Long userId, Long profileVersion, long expiresAt) {
+        return Jwts.builder()
+                .subject("user@example.com")
+                .claim("uid", userId)
+                .claim("pv", profileVersion)
+                .expiration(new Date(expiresAt))
+                .signWith(jsonWebToken.getKey())
+                .compact();
+    }
+}
@@ -0,0 +1,118 @@
+package com.linkedin.backend.features.authentication.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import com.sun.net.httpserver.HttpServer;
+
+class JwksKeyStoreTests {
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile String kid = "kid-1";
+    private volatile String cacheControl = "public, max-age=3600";
+    private RSAPublicKey publicKey;
+
+    @BeforeEach
+    void setUp() throws IOException, NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        publicKey = (RSAPublicKey) generator.generateKeyPair().getPublic();
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/certs", exchange -> {
+            requests.incrementAndGet();
+            byte[] body = jwks().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Cache-Control", cacheControl);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void cachesKeysForMaxAge() {
+        JwksKeyStore keyStore = keyStore(Duration.ZERO);
+
+        assertEquals(publicKey, keyStore.getKey("kid-1"));
+        assertEquals(publicKey, keyStore.getKey("kid-1"));
+        keyStore.refreshIfStale();
+
+        assertEquals(1, requests.get());
+        long expectedExpiry = System.currentTimeMillis() + Duration.ofHours(1).toMillis();
+        assertTrue(Math.abs(keyStore.getExpiresAt() - expectedExpiry) < Duration.ofMinutes(1).toMillis());
+    }
+
+    @Test
+    void refreshesStaleKeysInTheBackground() {
+        cacheControl = "public, max-age=0";
+        JwksKeyStore keyStore = keyStore(Duration.ofHours(1));
+
+        keyStore.refreshIfStale();
+        keyStore.refreshIfStale();
+
+        assertEquals(2, requests.get());
+        assertEquals(publicKey, keyStore.getKey("kid-1"));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void refetchesOnUnknownKid() {
+        JwksKeyStore keyStore = keyStore(Duration.ZERO);
+        keyStore.getKey("kid-1");
+
+        kid = "kid-2";
+
+        assertEquals(publicKey, keyStore.getKey("kid-2"));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void rateLimitsRefetchesOnUnknownKid() {
+        JwksKeyStore keyStore = keyStore(Duration.ofHours(1));
+        keyStore.getKey("kid-1");
+
+        assertThrows(IllegalArgumentException.class, () -> keyStore.getKey("unknown"));
+        assertThrows(IllegalArgumentException.class, () -> keyStore.getKey("unknown"));
+
+        assertEquals(1, requests.get());
+        assertEquals(1, keyStore.getFetchCount());
+    }
+
+    private JwksKeyStore keyStore(Duration minRefetchInterval) {
+        String url = "http://localhost:" + server.getAddress().getPort() + "/certs";
+        return new JwksKeyStore(new RestTemplateBuilder(), url, minRefetchInterval);
+    }
+
+    private String jwks() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return """
+                {"keys": [{"kty": "RSA", "alg": "RS256", "use": "sig", "kid": "%s", "n": "%s", "e": "%s"}]}"""
+                .formatted(kid, encoder.encodeToString(publicKey.getModulus().toByteArray()),
+                        encoder.encodeToString(publicKey.getPublicExponent().toByteArray()));
+    }
+}
@@ -0,0 +1,182 @@
+package com.linkedin.backend.features.cache.service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Minimal in-process server speaking enough of the Redis protocol (RESP2) for the cache:
+ * PING, GET, SET with EX/PX, SETEX, PSETEX, DEL and EXISTS.
+ */
+class EmbeddedRedisStandIn implements AutoCloseable {
+    private final ServerSocket serverSocket;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final List<Socket> clients = new ArrayList<>();
+
+    EmbeddedRedisStandIn() throws IOException {
+        serverSocket = new ServerSocket(0);
+        Thread acceptor = new Thread(this::accept, "redis-stand-in");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    Long ttlMillis(String key) {
+        Entry entry = entries.get(key);
+        return entry == null || entry.expiresAt() == 0 ? null : entry.expiresAt() - System.currentTimeMillis();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        synchronized (clients) {
+            for (Socket client : clients) {
+                client.close();
+            }
+        }
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                synchronized (clients) {
+                    clients.add(client);
+                }
+                Thread handler = new Thread(() -> serve(client), "redis-stand-in-client");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket client) {
+        try (client) {
+            InputStream in = new BufferedInputStream(client.getInputStream());
+            OutputStream out = client.getOutputStream();
+            List<String> command;
+            while ((command = readCommand(in)) != null) {
+                out.write(execute(command).getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        } catch (SocketException e) {
+            // Client disconnected.
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String execute(List<String> command) {
+        String name = command.get(0).toUpperCase();
+        switch (name) {
+            case "PING":
+                return "+PONG\r\n";
+            case "GET": {
+                Entry entry = live(command.get(1));
+                return entry == null ? "$-1\r\n" : bulk(entry.value());
+            }
+            case "SET": {
+                long expiresAt = 0;
+                for (int i = 3; i + 1 < command.size(); i++) {
+                    String option = command.get(i).toUpperCase();
+                    if (option.equals("EX")) {
+                        expiresAt = System.currentTimeMillis() + Long.parseLong(command.get(i + 1)) * 1000;
+                    } else if (option.equals("PX")) {
+                        expiresAt = System.currentTimeMillis() + Long.parseLong(command.get(i + 1));
+                    }
+                }
+                entries.put(command.get(1), new Entry(command.get(2), expiresAt));
+                return "+OK\r\n";
+            }
+            case "SETEX":
+                entries.put(command.get(1), new Entry(command.get(3),
+                        System.currentTimeMillis() + Long.parseLong(command.get(2)) * 1000));
+                return "+OK\r\n";
+            case "PSETEX":
+                entries.put(command.get(1), new Entry(command.get(3),
+                        System.currentTimeMillis() + Long.parseLong(command.get(2))));
+                return "+OK\r\n";
+            case "DEL":
+            case "EXISTS": {
+                int count = 0;
+                for (String key : command.subList(1, command.size())) {
+                    if (live(key) != null) {
+                        count++;
+                        if (name.equals("DEL")) {
+                            entries.remove(key);
+                        }
+                    }
+                }
+                return ":" + count + "\r\n";
+            }
+            case "SELECT":
+            case "CLIENT":
+                return "+OK\r\n";
+            default:
+                return "-ERR unknown command '" + command.get(0) + "'\r\n";
+        }
+    }
+
+    private Entry live(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() != 0 && entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private static String bulk(String value) {
+        return "$" + value.getBytes(StandardCharsets.UTF_8).length + "\r\n" + value + "\r\n";
+    }
+
+    private static List<String> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+        if (header.charAt(0) != '*') {
+            return List.of(header.trim().split("\\s+"));
+        }
+        int count = Integer.parseInt(header.substring(1));
+        List<String> command = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] bytes = in.readNBytes(length + 2);
+            command.add(new String(bytes, 0, length, StandardCharsets.UTF_8));
+        }
+        return command;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int previous = -1;
+        int current;
+        while ((current = in.read()) != -1) {
+            if (previous == '\r' && current == '\n') {
+                line.setLength(line.length() - 1);
+                return line.toString();
+            }
+            line.append((char) current);
+            previous = current;
+        }
+        return null;
+    }
+
+    private record Entry(String value, long expiresAt) {
+    }
+}
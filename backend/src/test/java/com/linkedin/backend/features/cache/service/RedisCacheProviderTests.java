@@ -0,0 +1,132 @@
+package com.linkedin.backend.features.cache.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.linkedin.backend.features.authentication.dto.UserSummary;
+import com.linkedin.backend.features.cache.dto.CacheSettings;
+import com.linkedin.backend.features.feed.dto.PostView;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RedisCacheProviderTests {
+    private static final CacheSettings SETTINGS = new CacheSettings(Duration.ofMinutes(1), 100);
+    private static final PostView POST = new PostView(1L, "Hello", null,
+            new UserSummary(2L, "Ada", "Lovelace", "Engineer", null), 3, 4,
+            LocalDateTime.of(2024, 1, 1, 12, 0), null);
+
+    private EmbeddedRedisStandIn server;
+    private LettuceConnectionFactory connectionFactory;
+    private SimpleMeterRegistry meterRegistry;
+    private RedisCacheProvider cacheProvider;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new EmbeddedRedisStandIn();
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build())
+                .build();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", server.getPort()), clientConfiguration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        cacheProvider = new RedisCacheProvider(new StringRedisTemplate(connectionFactory),
+                Jackson2ObjectMapperBuilder.json().build(), meterRegistry, new MockEnvironment(), "test:");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionFactory.destroy();
+        server.close();
+    }
+
+    @Test
+    void loadsOnceAndServesFromCache() {
+        ValueCache<Long, PostView> cache = cacheProvider.create("posts", PostView.class, SETTINGS);
+        AtomicInteger loads = new AtomicInteger();
+
+        PostView first = cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return POST;
+        });
+        PostView second = cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return POST;
+        });
+
+        assertEquals(POST, first);
+        assertEquals(POST, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, meterRegistry.counter("cache.gets", "cache", "posts", "result", "hit").count());
+        assertEquals(1, meterRegistry.counter("cache.gets", "cache", "posts", "result", "miss").count());
+    }
+
+    @Test
+    void appliesTimeToLive() {
+        ValueCache<Long, PostView> cache = cacheProvider.create("posts", PostView.class, SETTINGS);
+
+        cache.get(1L, id -> POST);
+
+        Long ttl = server.ttlMillis("test:posts:1");
+        assertNotNull(ttl);
+        assertTrue(ttl > 0 && ttl <= Duration.ofMinutes(1).toMillis());
+    }
+
+    @Test
+    void evictForcesReload() {
+        ValueCache<Long, PostView> cache = cacheProvider.create("posts", PostView.class, SETTINGS);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return POST;
+        });
+        cache.evict(1L);
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return POST;
+        });
+
+        assertEquals(2, loads.get());
+        assertEquals(1, meterRegistry.counter("cache.evictions", "cache", "posts").count());
+    }
+
+    @Test
+    void doesNotCacheNullValues() {
+        ValueCache<Long, PostView> cache = cacheProvider.create("posts", PostView.class, SETTINGS);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        PostView value = cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertNull(value);
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,112 @@
+package com.linkedin.backend.features.feed.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.linkedin.backend.features.feed.dto.PostKey;
+
+class FeedTimelineTests {
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Test
+    void pushKeepsNewestFirstOrder() {
+        FeedTimeline timeline = new FeedTimeline(10);
+        timeline.push(key(1, 0));
+        timeline.push(key(3, 2));
+        timeline.push(key(2, 1));
+        // Same timestamp, ordered by id.
+        timeline.push(key(5, 1));
+
+        assertEquals(List.of(3L, 5L, 2L, 1L), ids(timeline.page(null, null, 10)));
+    }
+
+    @Test
+    void pushIgnoresDuplicates() {
+        FeedTimeline timeline = new FeedTimeline(10);
+        timeline.push(key(1, 0));
+        timeline.push(key(1, 0));
+
+        assertEquals(1, timeline.size());
+    }
+
+    @Test
+    void pushDropsTheOldestWhenFull() {
+        FeedTimeline timeline = new FeedTimeline(3);
+        timeline.push(key(1, 1));
+        timeline.push(key(2, 2));
+        timeline.push(key(3, 3));
+        assertFalse(timeline.isTruncated());
+
+        timeline.push(key(4, 4));
+        assertEquals(List.of(4L, 3L, 2L), ids(timeline.page(null, null, 10)));
+        assertTrue(timeline.isTruncated());
+
+        // Older than everything kept, so it is not buffered.
+        timeline.push(key(0, 0));
+        assertEquals(List.of(4L, 3L, 2L), ids(timeline.page(null, null, 10)));
+    }
+
+    @Test
+    void removeShiftsLaterEntries() {
+        FeedTimeline timeline = FeedTimeline.of(List.of(key(4, 4), key(3, 3), key(2, 2), key(1, 1)), 10);
+
+        timeline.remove(3);
+        timeline.remove(1);
+        timeline.remove(42);
+
+        assertEquals(List.of(4L, 2L), ids(timeline.page(null, null, 10)));
+        assertEquals(2, timeline.size());
+    }
+
+    @Test
+    void pageStartsStrictlyAfterTheCursor() {
+        FeedTimeline timeline = FeedTimeline.of(List.of(key(5, 3), key(4, 2), key(3, 2), key(2, 1), key(1, 0)), 10);
+
+        assertEquals(List.of(5L, 4L), ids(timeline.page(null, null, 2)));
+        assertEquals(List.of(3L, 2L), ids(timeline.page(at(2), 4L, 2)));
+        assertEquals(List.of(2L, 1L), ids(timeline.page(at(2), 3L, 5)));
+        assertEquals(List.of(), ids(timeline.page(at(0), 1L, 5)));
+    }
+
+    @Test
+    void ofMarksAFullSnapshotAsTruncated() {
+        assertTrue(FeedTimeline.of(List.of(key(2, 2), key(1, 1)), 2).isTruncated());
+        assertFalse(FeedTimeline.of(List.of(key(1, 1)), 2).isTruncated());
+    }
+
+    @Test
+    void randomPushesMatchASortedList() {
+        Random random = new Random(3);
+        FeedTimeline timeline = new FeedTimeline(50);
+        List<PostKey> expected = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            PostKey key = key(id, random.nextInt(100));
+            timeline.push(key);
+            expected.add(key);
+        }
+        expected.sort(Comparator.comparing(PostKey::creationDate).thenComparing(PostKey::id).reversed());
+
+        assertEquals(ids(expected.subList(0, 50)), ids(timeline.page(null, null, 50)));
+    }
+
+    private static PostKey key(long id, int minutes) {
+        return new PostKey(id, at(minutes));
+    }
+
+    private static LocalDateTime at(int minutes) {
+        return T0.plusMinutes(minutes);
+    }
+
+    private static List<Long> ids(List<PostKey> keys) {
+        return keys.stream().map(PostKey::id).toList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.linkedin.backend.features.messaging.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.linkedin.backend.features.authentication.model.User;
+import com.linkedin.backend.features.authentication.repository.UserRepository;
+import com.linkedin.backend.features.messaging.model.Conversation;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ConversationRepositoryTests {
+    @Autowired
+    private ConversationRepository conversationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void insertIfAbsentCreatesOneConversationPerPairWhoeverWritesFirst() {
+        User author = entityManager.persist(new User("pair-author@example.com", "password"));
+        User recipient = entityManager.persist(new User("pair-recipient@example.com", "password"));
+        entityManager.flush();
+
+        conversationRepository.insertIfAbsent(author.getId(), recipient.getId());
+        conversationRepository.insertIfAbsent(recipient.getId(), author.getId());
+
+        Conversation conversation = conversationRepository.findCommittedByPair(
+                Math.min(author.getId(), recipient.getId()), Math.max(author.getId(), recipient.getId())).orElseThrow();
+        assertEquals(author.getId(), conversation.getAuthor().getId());
+        assertEquals(recipient.getId(), conversation.getRecipient().getId());
+        assertEquals(1, conversationRepository.findByParticipant(author.getId()).size());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void lockingReadSeesAConversationCommittedAfterTheSnapshot() {
+        User author = userRepository.save(new User("race-author@example.com", "password"));
+        User recipient = userRepository.save(new User("race-recipient@example.com", "password"));
+        Long lowUserId = Math.min(author.getId(), recipient.getId());
+        Long highUserId = Math.max(author.getId(), recipient.getId());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            transaction.executeWithoutResult(status -> {
+                // The plain read opens this transaction's snapshot before the other request creates the conversation.
+                assertTrue(conversationRepository.findByLowUserIdAndHighUserId(lowUserId, highUserId).isEmpty());
+                CompletableFuture.runAsync(() -> transaction.executeWithoutResult(
+                        other -> conversationRepository.insertIfAbsent(recipient.getId(), author.getId()))).join();
+
+                conversationRepository.insertIfAbsent(author.getId(), recipient.getId());
+                Conversation conversation = conversationRepository.findCommittedByPair(lowUserId, highUserId)
+                        .orElseThrow();
+                assertEquals(recipient.getId(), conversation.getAuthor().getId());
+            });
+        } finally {
+            userRepository.deleteAllById(List.of(author.getId(), recipient.getId()));
+        }
+    }
+}
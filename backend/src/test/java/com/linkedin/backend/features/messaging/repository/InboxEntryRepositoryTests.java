@@ -0,0 +1,68 @@
+package com.linkedin.backend.features.messaging.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.linkedin.backend.features.messaging.model.InboxEntry;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class InboxEntryRepositoryTests {
+    private static final long USER_ID = 1L;
+    private static final long CONVERSATION_ID = 10L;
+    private static final long OTHER_USER_ID = 2L;
+    private static final LocalDateTime SENT_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private InboxEntryRepository inboxEntryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void recordMessageKeepsTheNewestMessageWhenSendsCommitOutOfOrder() {
+        inboxEntryRepository.recordMessage(USER_ID, CONVERSATION_ID, OTHER_USER_ID, 5L, "fifth", SENT_AT.plusMinutes(5), 1);
+        inboxEntryRepository.recordMessage(USER_ID, CONVERSATION_ID, OTHER_USER_ID, 3L, "third", SENT_AT.plusMinutes(3), 1);
+
+        InboxEntry entry = entry();
+        assertEquals(5L, entry.getLastMessageId());
+        assertEquals("fifth", entry.getLastMessageSnippet());
+        assertEquals(SENT_AT.plusMinutes(5), entry.getLastMessageAt());
+        assertEquals(2, entry.getUnreadCount());
+    }
+
+    @Test
+    void recordMessageMovesTheLastMessageForward() {
+        inboxEntryRepository.recordMessage(USER_ID, CONVERSATION_ID, OTHER_USER_ID, 3L, "third", SENT_AT.plusMinutes(3), 0);
+        inboxEntryRepository.recordMessage(USER_ID, CONVERSATION_ID, OTHER_USER_ID, 5L, "fifth", SENT_AT.plusMinutes(5), 0);
+
+        InboxEntry entry = entry();
+        assertEquals(5L, entry.getLastMessageId());
+        assertEquals("fifth", entry.getLastMessageSnippet());
+        assertEquals(0, entry.getUnreadCount());
+    }
+
+    @Test
+    void subtractUnreadStopsAtZero() {
+        inboxEntryRepository.recordMessage(USER_ID, CONVERSATION_ID, OTHER_USER_ID, 3L, "third", SENT_AT, 1);
+
+        inboxEntryRepository.subtractUnread(USER_ID, CONVERSATION_ID, 3);
+
+        assertEquals(0, entry().getUnreadCount());
+    }
+
+    private InboxEntry entry() {
+        entityManager.clear();
+        return inboxEntryRepository.findAll().stream()
+                .filter(entry -> entry.getUserId() == USER_ID && entry.getConversationId() == CONVERSATION_ID)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,46 @@
+package com.linkedin.backend.features.messaging.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.linkedin.backend.features.authentication.model.User;
+import com.linkedin.backend.features.messaging.model.Conversation;
+import com.linkedin.backend.features.messaging.model.Message;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MessageRepositoryTests {
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void markReadUpToOnlyMarksReceivedMessagesUpToTheGivenOne() {
+        User sender = entityManager.persist(new User("read-sender@example.com", "password"));
+        User receiver = entityManager.persist(new User("read-receiver@example.com", "password"));
+        Conversation conversation = entityManager.persist(new Conversation(sender, receiver));
+        Message first = entityManager.persist(new Message(sender, receiver, conversation, "first"));
+        Message reply = entityManager.persist(new Message(receiver, sender, conversation, "reply"));
+        Message second = entityManager.persist(new Message(sender, receiver, conversation, "second"));
+        Message third = entityManager.persist(new Message(sender, receiver, conversation, "third"));
+        entityManager.flush();
+
+        assertEquals(2, messageRepository.markReadUpTo(conversation.getId(), receiver.getId(), second.getId()));
+        assertEquals(0, messageRepository.markReadUpTo(conversation.getId(), receiver.getId(), second.getId()));
+
+        entityManager.clear();
+        assertTrue(entityManager.find(Message.class, first.getId()).getIsRead());
+        assertFalse(entityManager.find(Message.class, reply.getId()).getIsRead());
+        assertTrue(entityManager.find(Message.class, second.getId()).getIsRead());
+        assertFalse(entityManager.find(Message.class, third.getId()).getIsRead());
+    }
+}
@@ -0,0 +1,35 @@
+package com.linkedin.backend.features.networking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+
+import com.linkedin.backend.features.authentication.repository.UserRepository;
+import com.linkedin.backend.features.feed.service.FeedTimelineService;
+import com.linkedin.backend.features.networking.repository.ConnectionRepository;
+import com.linkedin.backend.features.notifications.service.NotificationService;
+
+class ConnectionServiceTests {
+    private final SocialGraphIndex index = new SocialGraphIndex(mock(ConnectionRepository.class));
+    private final ConnectionService connectionService = new ConnectionService(mock(ConnectionRepository.class),
+            mock(UserRepository.class), mock(NotificationService.class), mock(FeedTimelineService.class), index,
+            mock(RecommendationPrecomputeService.class), mock(ConnectionCountService.class));
+
+    @Test
+    void degreeTellsThirdDegreeFromOutOfNetwork() {
+        // 1 - 2 - 3 - 4 - 5, and 6 - 7 apart.
+        index.loadEdges(new long[]{1, 2, 3, 4, 6}, new long[]{2, 3, 4, 5, 7});
+
+        assertEquals(0, connectionService.getConnectionDegree(1L, 1L).degree());
+        assertEquals(1, connectionService.getConnectionDegree(1L, 2L).degree());
+        assertEquals(3, connectionService.getConnectionDegree(1L, 4L).degree());
+        assertEquals(4, connectionService.getConnectionDegree(1L, 5L).degree());
+        assertEquals(4, connectionService.getConnectionDegree(1L, 6L).degree());
+    }
+
+    @Test
+    void degreeIsThirdWhileTheGraphIsLoading() {
+        assertEquals(3, connectionService.getConnectionDegree(1L, 6L).degree());
+    }
+}
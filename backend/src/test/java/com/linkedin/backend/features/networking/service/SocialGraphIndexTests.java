@@ -0,0 +1,156 @@
+package com.linkedin.backend.features.networking.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import com.linkedin.backend.features.networking.dto.ConnectionEdge;
+import com.linkedin.backend.features.networking.model.Status;
+import com.linkedin.backend.features.networking.repository.ConnectionRepository;
+
+class SocialGraphIndexTests {
+    private final ConnectionRepository connectionRepository = mock(ConnectionRepository.class);
+    private final SocialGraphIndex index = new SocialGraphIndex(connectionRepository);
+
+    @Test
+    void loadBuildsSymmetricAdjacency() {
+        loadWhile(List.of(edge(1, 1, 2), edge(2, 1, 3), edge(3, 3, 2)), graph -> {
+        });
+
+        assertTrue(index.isReady());
+        assertArrayEquals(new long[]{2, 3}, index.neighbours(1));
+        assertArrayEquals(new long[]{1, 3}, index.neighbours(2));
+        assertArrayEquals(new long[]{1, 2}, index.neighbours(3));
+    }
+
+    @Test
+    void connectionsAddedWhileLoadingAreMergedIn() {
+        loadWhile(List.of(edge(1, 1, 2)), graph -> graph.addConnection(1, 4));
+
+        assertArrayEquals(new long[]{2, 4}, index.neighbours(1));
+        assertArrayEquals(new long[]{1}, index.neighbours(4));
+    }
+
+    @Test
+    void connectionsRemovedWhileLoadingStayRemoved() {
+        // The batch was read before the removal committed, so it still contains the edge.
+        loadWhile(List.of(edge(1, 1, 2), edge(2, 1, 3)), graph -> graph.removeConnection(2, 1));
+
+        assertFalse(index.areConnected(1, 2));
+        assertArrayEquals(new long[]{3}, index.neighbours(1));
+        assertArrayEquals(new long[0], index.neighbours(2));
+    }
+
+    @Test
+    void connectionsRemovedAndAcceptedAgainWhileLoadingAreKept() {
+        loadWhile(List.of(edge(1, 1, 2)), graph -> {
+            graph.removeConnection(1, 2);
+            graph.addConnection(2, 1);
+        });
+
+        assertTrue(index.areConnected(1, 2));
+    }
+
+    @Test
+    void usersDeletedWhileLoadingStayRemoved() {
+        loadWhile(List.of(edge(1, 1, 2), edge(2, 2, 3), edge(3, 1, 3)), graph -> graph.removeUser(2));
+
+        assertArrayEquals(new long[0], index.neighbours(2));
+        assertArrayEquals(new long[]{3}, index.neighbours(1));
+        assertArrayEquals(new long[]{1}, index.neighbours(3));
+    }
+
+    @Test
+    void distanceMatchesPlainBreadthFirstSearchOnRandomGraphs() {
+        Random random = new Random(7);
+        for (int graph = 0; graph < 20; graph++) {
+            SocialGraphIndex randomIndex = new SocialGraphIndex(connectionRepository);
+            int users = 50 + random.nextInt(200);
+            int connections = users * (1 + random.nextInt(3));
+            long[] userIds = new long[connections];
+            long[] otherUserIds = new long[connections];
+            for (int i = 0; i < connections; i++) {
+                userIds[i] = random.nextInt(users);
+                otherUserIds[i] = random.nextInt(users);
+            }
+            randomIndex.loadEdges(userIds, otherUserIds);
+
+            for (int pair = 0; pair < 200; pair++) {
+                long userId = random.nextInt(users);
+                long otherUserId = random.nextInt(users);
+                int maxDepth = 1 + random.nextInt(5);
+                assertEquals(breadthFirstDistance(randomIndex, userId, otherUserId, maxDepth),
+                        randomIndex.distance(userId, otherUserId, maxDepth, Integer.MAX_VALUE),
+                        "distance from " + userId + " to " + otherUserId + " within " + maxDepth);
+            }
+        }
+    }
+
+    @Test
+    void distanceGivesUpPastTheVisitBudget() {
+        // 0 - 1..100 - 101: the two users are two hops apart through any of 100 middle users.
+        long[] userIds = new long[200];
+        long[] otherUserIds = new long[200];
+        for (int i = 0; i < 100; i++) {
+            userIds[2 * i] = 0;
+            otherUserIds[2 * i] = i + 1;
+            userIds[2 * i + 1] = i + 1;
+            otherUserIds[2 * i + 1] = 101;
+        }
+        index.loadEdges(userIds, otherUserIds);
+
+        assertEquals(2, index.distance(0, 101, 2, 1_000));
+        assertEquals(SocialGraphIndex.BUDGET_EXCEEDED, index.distance(0, 101, 2, 10));
+        assertEquals(-1, index.distance(0, 101, 1, 1_000));
+    }
+
+    private static int breadthFirstDistance(SocialGraphIndex graph, long userId, long otherUserId, int maxDepth) {
+        Map<Long, Integer> depths = new HashMap<>();
+        ArrayDeque<Long> queue = new ArrayDeque<>();
+        depths.put(userId, 0);
+        queue.add(userId);
+        while (!queue.isEmpty()) {
+            long current = queue.poll();
+            int depth = depths.get(current);
+            if (current == otherUserId) {
+                return depth;
+            }
+            if (depth == maxDepth) {
+                continue;
+            }
+            for (long neighbourId : graph.neighbours(current)) {
+                if (depths.putIfAbsent(neighbourId, depth + 1) == null) {
+                    queue.add(neighbourId);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void loadWhile(List<ConnectionEdge> edges, Consumer<SocialGraphIndex> concurrentWrites) {
+        when(connectionRepository.findEdgesAfter(eq(Status.ACCEPTED), anyLong(), any())).thenAnswer(invocation -> {
+            concurrentWrites.accept(index);
+            return edges;
+        });
+        index.load();
+    }
+
+    private static ConnectionEdge edge(long id, long authorId, long recipientId) {
+        return new ConnectionEdge(id, authorId, recipientId);
+    }
+}
@@ -0,0 +1,80 @@
+package com.linkedin.backend.features.networking.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+class SortedLongArraysTests {
+
+    @Test
+    void insertKeepsOrderAndIgnoresDuplicates() {
+        long[] values = {2, 5, 9};
+
+        assertArrayEquals(new long[]{1, 2, 5, 9}, SortedLongArrays.insert(values, 1));
+        assertArrayEquals(new long[]{2, 5, 7, 9}, SortedLongArrays.insert(values, 7));
+        assertArrayEquals(new long[]{2, 5, 9, 12}, SortedLongArrays.insert(values, 12));
+        assertArrayEquals(new long[]{4}, SortedLongArrays.insert(SortedLongArrays.EMPTY, 4));
+        assertSame(values, SortedLongArrays.insert(values, 5));
+        assertArrayEquals(new long[]{2, 5, 9}, values);
+    }
+
+    @Test
+    void removeDropsOnlyTheValue() {
+        long[] values = {2, 5, 9};
+
+        assertArrayEquals(new long[]{5, 9}, SortedLongArrays.remove(values, 2));
+        assertArrayEquals(new long[]{2, 9}, SortedLongArrays.remove(values, 5));
+        assertArrayEquals(new long[]{2, 5}, SortedLongArrays.remove(values, 9));
+        assertArrayEquals(SortedLongArrays.EMPTY, SortedLongArrays.remove(new long[]{3}, 3));
+        assertSame(values, SortedLongArrays.remove(values, 4));
+        assertArrayEquals(new long[]{2, 5, 9}, values);
+    }
+
+    @Test
+    void unionMergesWithoutDuplicates() {
+        assertArrayEquals(new long[]{1, 2, 3, 5, 8}, SortedLongArrays.union(new long[]{1, 3, 5}, new long[]{2, 3, 8}));
+        assertArrayEquals(new long[]{1, 3}, SortedLongArrays.union(new long[]{1, 3}, SortedLongArrays.EMPTY));
+        assertArrayEquals(new long[]{4, 6}, SortedLongArrays.union(SortedLongArrays.EMPTY, new long[]{4, 6}));
+        assertArrayEquals(new long[]{1, 2}, SortedLongArrays.union(new long[]{1, 2}, new long[]{1, 2}));
+    }
+
+    @Test
+    void intersectionHonoursLimit() {
+        long[] a = {1, 3, 5, 7, 9};
+        long[] b = {3, 4, 5, 9, 10};
+
+        assertArrayEquals(new long[]{3, 5, 9}, SortedLongArrays.intersection(a, b, 10));
+        assertArrayEquals(new long[]{3, 5}, SortedLongArrays.intersection(a, b, 2));
+        assertArrayEquals(SortedLongArrays.EMPTY, SortedLongArrays.intersection(a, SortedLongArrays.EMPTY, 10));
+        assertEquals(3, SortedLongArrays.intersectionSize(a, b));
+        assertEquals(0, SortedLongArrays.intersectionSize(new long[]{1, 2}, new long[]{3, 4}));
+    }
+
+    @Test
+    void intersectionMatchesTreeSetOnSkewedSizes() {
+        // Skewed sizes take the binary search path, similar sizes the linear merge.
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            long[] small = randomSorted(random, 1 + random.nextInt(8), 2_000);
+            long[] large = randomSorted(random, 1 + random.nextInt(round % 2 == 0 ? 1_000 : 10), 2_000);
+
+            TreeSet<Long> expected = new TreeSet<>();
+            Arrays.stream(small).forEach(expected::add);
+            expected.retainAll(Arrays.stream(large).boxed().toList());
+
+            assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(),
+                    SortedLongArrays.intersection(small, large, Integer.MAX_VALUE));
+            assertEquals(expected.size(), SortedLongArrays.intersectionSize(large, small));
+        }
+    }
+
+    private static long[] randomSorted(Random random, int size, int bound) {
+        return random.longs(size, 0, bound).sorted().distinct().toArray();
+    }
+}
@@ -0,0 +1,104 @@
+package com.linkedin.backend.features.notifications.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.linkedin.backend.features.notifications.model.OutboxEvent;
+import com.linkedin.backend.features.notifications.model.OutboxOwner;
+import com.linkedin.backend.features.notifications.repository.OutboxEventRepository;
+import com.linkedin.backend.features.notifications.repository.OutboxOwnerRepository;
+
+class OutboxDispatcherTests {
+    private static final String OWNER = "instance-a";
+
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final OutboxOwnerRepository outboxOwnerRepository = mock(OutboxOwnerRepository.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final OutboxDispatcher dispatcher = new OutboxDispatcher(outboxEventRepository, outboxOwnerRepository,
+            messagingTemplate, OWNER, 100, 2, 8, Duration.ofHours(1));
+
+    @AfterEach
+    void shutdown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void drainSendsEachDestinationInIdOrderAndDeletesTheBatch() {
+        when(outboxEventRepository.findByOwnerAndIdLessThanOrderByIdAsc(eq(OWNER), anyLong(), any()))
+                .thenReturn(List.of(event(1, "/topic/a", "1"), event(2, "/topic/b", "2"), event(3, "/topic/a", "3")));
+
+        dispatcher.dispatchPending();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<?>> sent = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate, times(2)).send(eq("/topic/a"), sent.capture());
+        assertEquals(List.of("1", "3"), sent.getAllValues().stream()
+                .map(message -> new String((byte[]) message.getPayload(), StandardCharsets.UTF_8))
+                .toList());
+        verify(messagingTemplate).send(eq("/topic/b"), any(Message.class));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void drainHoldsBackEventsBehindAnUncommittedOne() {
+        dispatcher.record(() -> 10L, true);
+        dispatcher.record(() -> 11L, false);
+
+        dispatcher.dispatchPending();
+        verify(outboxEventRepository).findByOwnerAndIdLessThanOrderByIdAsc(eq(OWNER), eq(10L), any());
+
+        dispatcher.complete(10L);
+        verify(outboxEventRepository, timeout(1_000)).findByOwnerAndIdLessThanOrderByIdAsc(eq(OWNER), eq(12L), any());
+    }
+
+    @Test
+    void drainIncludesEventsLeftByAnEarlierRunOfTheSameOwner() {
+        when(outboxEventRepository.findMaxIdByOwner(OWNER)).thenReturn(42L);
+
+        dispatcher.dispatchPending();
+
+        verify(outboxEventRepository).findByOwnerAndIdLessThanOrderByIdAsc(eq(OWNER), eq(43L), any());
+    }
+
+    @Test
+    void purgeRecordsAHeartbeatBeforePurgingOwnersNotSeenWithinTheRetention() {
+        dispatcher.purgeStale();
+
+        InOrder order = inOrder(outboxOwnerRepository, outboxEventRepository);
+        ArgumentCaptor<OutboxOwner> heartbeat = ArgumentCaptor.forClass(OutboxOwner.class);
+        order.verify(outboxOwnerRepository).save(heartbeat.capture());
+        ArgumentCaptor<LocalDateTime> before = ArgumentCaptor.forClass(LocalDateTime.class);
+        order.verify(outboxEventRepository).deleteOfOwnersNotSeenSince(before.capture());
+        order.verify(outboxOwnerRepository).deleteSeenBefore(before.getValue());
+
+        assertEquals(OWNER, heartbeat.getValue().getOwner());
+        assertEquals(heartbeat.getValue().getLastSeen().minusHours(1), before.getValue());
+    }
+
+    private static OutboxEvent event(long id, String destination, String payload) {
+        OutboxEvent event = new OutboxEvent(OWNER, destination, payload);
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
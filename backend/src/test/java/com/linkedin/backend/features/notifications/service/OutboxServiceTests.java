@@ -0,0 +1,94 @@
+package com.linkedin.backend.features.notifications.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.backend.features.notifications.model.OutboxEvent;
+import com.linkedin.backend.features.notifications.repository.OutboxEventRepository;
+
+class OutboxServiceTests {
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final OutboxDispatcher outboxDispatcher = mock(OutboxDispatcher.class);
+    private final OutboxService outboxService = new OutboxService(outboxEventRepository, outboxDispatcher,
+            new ObjectMapper());
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void recordThroughTheDispatcher() {
+        when(outboxDispatcher.getOwner()).thenReturn("instance-a");
+        when(outboxDispatcher.record(any(), anyBoolean()))
+                .thenAnswer(invocation -> ((Supplier<Long>) invocation.getArgument(0)).get());
+        when(outboxEventRepository.save(any(OutboxEvent.class))).thenAnswer(invocation -> {
+            OutboxEvent event = invocation.getArgument(0);
+            ReflectionTestUtils.setField(event, "id", 7L);
+            return event;
+        });
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publishOutsideATransactionRecordsTheEventAndWakesTheDispatcher() {
+        outboxService.publish("/topic/posts/1/delete", Map.of("id", 1));
+
+        ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(saved.capture());
+        assertEquals("instance-a", saved.getValue().getOwner());
+        assertEquals("/topic/posts/1/delete", saved.getValue().getDestination());
+        assertEquals("{\"id\":1}", saved.getValue().getPayload());
+        verify(outboxDispatcher).record(any(), eq(false));
+        verify(outboxDispatcher).wake();
+    }
+
+    @Test
+    void publishInATransactionHoldsTheEventBackUntilTheTransactionCompletes() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        outboxService.publish("/topic/posts/1/delete", 1);
+
+        verify(outboxDispatcher).record(any(), eq(true));
+        verify(outboxDispatcher, never()).complete(any());
+        verify(outboxDispatcher, never()).wake();
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        verify(outboxDispatcher).complete(7L);
+    }
+
+    @Test
+    void sendAfterCommitSkipsTheOutboxTable() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        outboxService.sendAfterCommit("/topic/likes/1", Map.of("liked", true));
+
+        verify(outboxDispatcher, never()).send(anyString(), anyString());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(outboxDispatcher).send("/topic/likes/1", "{\"liked\":true}");
+        verifyNoInteractions(outboxEventRepository);
+    }
+}
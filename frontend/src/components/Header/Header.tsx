@@ -2,7 +2,6 @@ import { useEffect, useState } from "react";
 import { NavLink, useLocation } from "react-router-dom";
 import { useAuthentication } from "../../features/authentication/contexts/AuthenticationContextProvider";
 import { INotification } from "../../features/feed/pages/Notifications/Notifications";
-import { IConversation } from "../../features/messaging/components/Conversations/Conversations";
 import { IConnection } from "../../features/networking/components/Connection/Connection";
 import { useWebSocket } from "../../features/ws/WebSocketContextProvider";
 import { request } from "../../utils/api";
@@ -22,14 +21,7 @@ export function Header() {
     (notification) => !notification.read
   ).length;
   const location = useLocation();
-  const [conversations, setConversations] = useState<IConversation[]>([]);
-  const nonReadMessagesCount = conversations.reduce(
-    (acc, conversation) =>
-      acc +
-      conversation.messages.filter((message) => message.sender.id !== user?.id && !message.isRead)
-        .length,
-    0
-  );
+  const [nonReadMessagesCount, setNonReadMessagesCount] = useState(0);
   const [invitations, setInvitations] = useState<IConnection[]>([]);
   useEffect(() => {
     const handleResize = () => {
@@ -39,12 +31,15 @@ export function Header() {
     return () => window.removeEventListener("resize", handleResize);
   }, []);
 
-  useEffect(() => {
-    request<IConversation[]>({
-      endpoint: "/api/v1/messaging/conversations",
-      onSuccess: (data) => setConversations(data),
+  const loadNonReadMessagesCount = () =>
+    request<number>({
+      endpoint: "/api/v1/messaging/inbox/unread",
+      onSuccess: setNonReadMessagesCount,
       onFailure: (error) => console.log(error),
     });
+
+  useEffect(() => {
+    loadNonReadMessagesCount();
   }, [location.pathname]);
 
   useEffect(() => {
@@ -56,19 +51,9 @@ export function Header() {
   }, []);
 
   useEffect(() => {
-    const subscription = webSocketClient?.subscribe(
-      `/topic/users/${user?.id}/conversations`,
-      (message) => {
-        const conversation = JSON.parse(message.body);
-        setConversations((prevConversations) => {
-          const index = prevConversations.findIndex((c) => c.id === conversation.id);
-          if (index === -1) {
-            if (conversation.author.id === user?.id) return prevConversations;
-            return [conversation, ...prevConversations];
-          }
-          return prevConversations.map((c) => (c.id === conversation.id ? conversation : c));
-        });
-      }
+    // Inbox updates carry one conversation's count, the total is cheap to reload.
+    const subscription = webSocketClient?.subscribe(`/topic/users/${user?.id}/inbox`, () =>
+      loadNonReadMessagesCount()
     );
     return () => subscription?.unsubscribe();
   }, [user?.id, webSocketClient]);
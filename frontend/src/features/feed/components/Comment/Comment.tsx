@@ -11,7 +11,9 @@ import classes from "./Comment.module.scss";
 
 export interface IComment {
   id: number;
+  parentCommentId?: number;
   content: string;
+  replyCount: number;
   author: IUser;
   creationDate: string;
   updatedDate?: string;
@@ -19,15 +21,29 @@ export interface IComment {
 
 interface ICommentProps {
   comment: IComment;
-  deleteComment: (commentId: number) => Promise<void>;
+  deleteComment: (comment: IComment) => Promise<void>;
   editComment: (commentId: number, content: string) => Promise<void>;
+  replyToComment?: (parentCommentId: number, content: string) => Promise<void>;
+  loadReplies?: (commentId: number) => Promise<void>;
+  replies?: IComment[];
 }
 
-export function Comment({ comment, deleteComment, editComment }: ICommentProps) {
+export function Comment({
+  comment,
+  deleteComment,
+  editComment,
+  replyToComment,
+  loadReplies,
+  replies,
+}: ICommentProps) {
   const navigate = useNavigate();
   const [showActions, setShowActions] = useState(false);
   const [editing, setEditing] = useState(false);
   const [commentContent, setCommentContent] = useState(comment.content);
+  const [showReplies, setShowReplies] = useState(false);
+  const [replying, setReplying] = useState(false);
+  const [replyContent, setReplyContent] = useState("");
+  const loadedReplies = replies?.length ?? 0;
   const { user } = useAuthentication();
   return (
     <div key={comment.id} className={classes.root}>
@@ -69,11 +85,67 @@ export function Comment({ comment, deleteComment, editComment }: ICommentProps)
             {showActions && (
               <div className={classes.actions}>
                 <button onClick={() => setEditing(true)}>Edit</button>
-                <button onClick={() => deleteComment(comment.id)}>Delete</button>
+                <button onClick={() => deleteComment(comment)}>Delete</button>
               </div>
             )}
           </div>
           <div className={classes.content}>{comment.content}</div>
+          {replyToComment && (
+            <div className={classes.replyActions}>
+              <button onClick={() => setReplying((prev) => !prev)}>Reply</button>
+              {comment.replyCount > 0 && (
+                <button
+                  onClick={() => {
+                    if (!showReplies && loadedReplies === 0) {
+                      loadReplies?.(comment.id);
+                    }
+                    setShowReplies((prev) => !prev);
+                  }}
+                >
+                  {showReplies
+                    ? "Hide replies"
+                    : `View ${comment.replyCount} ${comment.replyCount === 1 ? "reply" : "replies"}`}
+                </button>
+              )}
+            </div>
+          )}
+          {replying && replyToComment && (
+            <form
+              onSubmit={async (e) => {
+                e.preventDefault();
+                if (!replyContent) return;
+                await replyToComment(comment.id, replyContent);
+                setReplyContent("");
+                setReplying(false);
+                setShowReplies(true);
+              }}
+            >
+              <Input
+                type="text"
+                value={replyContent}
+                onChange={(e) => setReplyContent(e.target.value)}
+                placeholder="Add a reply..."
+                style={{ marginBlock: 0 }}
+              />
+            </form>
+          )}
+          {showReplies && replies && (
+            <div className={classes.replies}>
+              {replies.map((reply) => (
+                <Comment
+                  key={reply.id}
+                  comment={reply}
+                  deleteComment={deleteComment}
+                  editComment={editComment}
+                />
+              ))}
+              {loadedReplies < comment.replyCount && (
+                <button className={classes.more} onClick={() => loadReplies?.(comment.id)}>
+                  View more replies
+                </button>
+              )}
+            </div>
+          )}
         </>
       ) : (
         <form
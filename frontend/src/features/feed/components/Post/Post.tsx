@@ -1,4 +1,4 @@
-import { Dispatch, FormEvent, SetStateAction, useEffect, useState } from "react";
+import { Dispatch, FormEvent, SetStateAction, useEffect, useRef, useState } from "react";
 import { useNavigate } from "react-router-dom";
 import { Input } from "../../../../components/Input/Input";
 import { request } from "../../../../utils/api";
@@ -19,17 +19,51 @@ export interface IPost {
   picture?: string;
   creationDate: string;
   updatedDate?: string;
+  likeCount?: number;
+  commentCount?: number;
+}
+
+interface ILikeEvent {
+  postId: number;
+  userId: number;
+  firstName: string;
+  lastName: string;
+  liked: boolean;
+  likeCount: number;
+}
+
+const COMMENTS_PAGE_SIZE = 10;
+
+interface IReplies {
+  items: IComment[];
+  last?: IComment;
+}
+
+const byCreationDate = (a: IComment, b: IComment) =>
+  a.creationDate === b.creationDate ? a.id - b.id : a.creationDate < b.creationDate ? -1 : 1;
+
+export interface ILikeSummary {
+  postId: number;
+  likeCount: number;
+  likedByMe: boolean;
 }
 
 interface PostProps {
   post: IPost;
   setPosts: Dispatch<SetStateAction<IPost[]>>;
+  likeSummary?: ILikeSummary;
+  batchedLikes?: boolean;
 }
 
-export function Post({ post, setPosts }: PostProps) {
+export function Post({ post, setPosts, likeSummary, batchedLikes }: PostProps) {
   const [comments, setComments] = useState<IComment[]>([]);
+  const [commentsLoaded, setCommentsLoaded] = useState(false);
+  const [hasMoreComments, setHasMoreComments] = useState(false);
+  const [commentCount, setCommentCount] = useState(post.commentCount ?? 0);
+  const [replies, setReplies] = useState<Record<number, IReplies>>({});
+  const removedComments = useRef(new Set<number>());
   const [showComments, setShowComments] = useState(false);
-  const [likes, setLikes] = useState<IUser[]>([]);
+  const [likeCount, setLikeCount] = useState(post.likeCount ?? 0);
   const [content, setContent] = useState("");
   const navigate = useNavigate();
   const { user } = useAuthentication();
@@ -39,38 +73,131 @@ export function Post({ post, setPosts }: PostProps) {
 
   const [postLiked, setPostLiked] = useState<boolean | undefined>(undefined);
 
-  useEffect(() => {
-    const fetchComments = async () => {
-      await request<IComment[]>({
-        endpoint: `/api/v1/feed/posts/${post.id}/comments`,
-        onSuccess: (data) => setComments(data),
-        onFailure: (error) => {
-          console.error(error);
-        },
+  const loadComments = async () => {
+    const last = comments[comments.length - 1];
+    const cursor = last
+      ? `&before=${encodeURIComponent(last.creationDate)}&beforeId=${last.id}`
+      : "";
+    await request<IComment[]>({
+      endpoint: `/api/v1/feed/posts/${post.id}/comments?size=${COMMENTS_PAGE_SIZE}${cursor}`,
+      onSuccess: (data) => {
+        setComments((prev) => [...prev, ...data.filter((c) => !prev.some((p) => p.id === c.id))]);
+        setHasMoreComments(data.length === COMMENTS_PAGE_SIZE);
+        setCommentsLoaded(true);
+      },
+      onFailure: (error) => {
+        console.error(error);
+      },
+    });
+  };
+
+  const loadReplies = async (commentId: number) => {
+    const last = replies[commentId]?.last;
+    const cursor = last ? `&after=${encodeURIComponent(last.creationDate)}&afterId=${last.id}` : "";
+    await request<IComment[]>({
+      endpoint: `/api/v1/feed/comments/${commentId}/replies?size=${COMMENTS_PAGE_SIZE}${cursor}`,
+      onSuccess: (data) =>
+        setReplies((prev) => {
+          const items = prev[commentId]?.items ?? [];
+          return {
+            ...prev,
+            [commentId]: {
+              items: [...items, ...data.filter((r) => !items.some((i) => i.id === r.id))].sort(
+                byCreationDate
+              ),
+              last: data.length > 0 ? data[data.length - 1] : prev[commentId]?.last,
+            },
+          };
+        }),
+      onFailure: (error) => {
+        console.error(error);
+      },
+    });
+  };
+
+  const toggleComments = () => {
+    setShowComments((prev) => !prev);
+    if (!commentsLoaded) {
+      loadComments();
+    }
+  };
+
+  const upsertComment = (comment: IComment) => {
+    // Edited comments carry an update date, new ones do not.
+    const isNew = !comment.updatedDate;
+    if (isNew) {
+      setCommentCount((prev) => prev + 1);
+    }
+    if (comment.parentCommentId) {
+      const parentId = comment.parentCommentId;
+      if (isNew) {
+        setComments((prev) =>
+          prev.map((c) => (c.id === parentId ? { ...c, replyCount: c.replyCount + 1 } : c))
+        );
+      }
+      setReplies((prev) => {
+        const loaded = prev[parentId];
+        if (!loaded) return prev;
+        const exists = loaded.items.some((r) => r.id === comment.id);
+        return {
+          ...prev,
+          [parentId]: {
+            ...loaded,
+            items: exists
+              ? loaded.items.map((r) => (r.id === comment.id ? comment : r))
+              : [...loaded.items, comment].sort(byCreationDate),
+          },
+        };
       });
-    };
-    fetchComments();
-  }, [post.id]);
+      return;
+    }
+    setComments((prev) => {
+      const index = prev.findIndex((c) => c.id === comment.id);
+      if (index === -1) {
+        return [comment, ...prev];
+      }
+      return prev.map((c) => (c.id === comment.id ? { ...comment, replyCount: c.replyCount } : c));
+    });
+  };
+
+  const removeComment = (comment: IComment) => {
+    if (removedComments.current.has(comment.id)) return;
+    removedComments.current.add(comment.id);
+    setCommentCount((prev) => Math.max(0, prev - 1 - comment.replyCount));
+    if (comment.parentCommentId) {
+      const parentId = comment.parentCommentId;
+      setComments((prev) =>
+        prev.map((c) =>
+          c.id === parentId ? { ...c, replyCount: Math.max(0, c.replyCount - 1) } : c
+        )
+      );
+      setReplies((prev) => {
+        const loaded = prev[parentId];
+        if (!loaded) return prev;
+        return {
+          ...prev,
+          [parentId]: { ...loaded, items: loaded.items.filter((r) => r.id !== comment.id) },
+        };
+      });
+      return;
+    }
+    setComments((prev) => prev.filter((c) => c.id !== comment.id));
+  };
 
   useEffect(() => {
     const subscription = webSocketClient?.subscribe(`/topic/likes/${post.id}`, (message) => {
-      const likes = JSON.parse(message.body);
-      setLikes(likes);
-      setPostLiked(likes.some((like: IUser) => like.id === user?.id));
+      const event: ILikeEvent = JSON.parse(message.body);
+      setLikeCount(event.likeCount);
+      if (event.userId === user?.id) {
+        setPostLiked(event.liked);
+      }
     });
     return () => subscription?.unsubscribe();
   }, [post.id, user?.id, webSocketClient]);
 
   useEffect(() => {
     const subscription = webSocketClient?.subscribe(`/topic/comments/${post.id}`, (message) => {
-      const comment = JSON.parse(message.body);
-      setComments((prev) => {
-        const index = prev.findIndex((c) => c.id === comment.id);
-        if (index === -1) {
-          return [comment, ...prev];
-        }
-        return prev.map((c) => (c.id === comment.id ? comment : c));
-      });
+      upsertComment(JSON.parse(message.body));
     });
 
     return () => subscription?.unsubscribe();
@@ -80,10 +207,7 @@ export function Post({ post, setPosts }: PostProps) {
     const subscription = webSocketClient?.subscribe(
       `/topic/comments/${post.id}/delete`,
       (message) => {
-        const comment = JSON.parse(message.body);
-        setComments((prev) => {
-          return prev.filter((c) => c.id !== comment.id);
-        });
+        removeComment(JSON.parse(message.body));
       }
     );
 
@@ -106,23 +230,29 @@ export function Post({ post, setPosts }: PostProps) {
   }, [post.id, setPosts, webSocketClient]);
 
   useEffect(() => {
-    const fetchLikes = async () => {
-      await request<IUser[]>({
-        endpoint: `/api/v1/feed/posts/${post.id}/likes`,
+    if (likeSummary) {
+      setLikeCount(likeSummary.likeCount);
+      setPostLiked(likeSummary.likedByMe);
+      return;
+    }
+    if (batchedLikes) return;
+    const fetchLikeSummary = async () => {
+      await request<ILikeSummary[]>({
+        endpoint: `/api/v1/feed/likes/summary?postIds=${post.id}`,
         onSuccess: (data) => {
-          setLikes(data);
-          setPostLiked(data.some((like) => like.id === user?.id));
+          setLikeCount(data[0].likeCount);
+          setPostLiked(data[0].likedByMe);
         },
         onFailure: (error) => {
           console.error(error);
         },
       });
     };
-    fetchLikes();
-  }, [post.id, user?.id]);
+    fetchLikeSummary();
+  }, [post.id, likeSummary, batchedLikes]);
 
   const like = async () => {
-    await request<IPost>({
+    await request<ILikeEvent>({
       endpoint: `/api/v1/feed/posts/${post.id}/like`,
       method: "PUT",
       onSuccess: () => {},
@@ -137,7 +267,7 @@ export function Post({ post, setPosts }: PostProps) {
     if (!content) {
       return;
     }
-    await request<IPost>({
+    await request<IComment>({
       endpoint: `/api/v1/feed/posts/${post.id}/comments`,
       method: "POST",
       body: JSON.stringify({ content }),
@@ -148,13 +278,23 @@ export function Post({ post, setPosts }: PostProps) {
     });
   };
 
-  const deleteComment = async (id: number) => {
+  const replyToComment = async (parentCommentId: number, content: string) => {
+    await request<IComment>({
+      endpoint: `/api/v1/feed/posts/${post.id}/comments`,
+      method: "POST",
+      body: JSON.stringify({ content, parentCommentId }),
+      onSuccess: () => {},
+      onFailure: (error) => {
+        console.error(error);
+      },
+    });
+  };
+
+  const deleteComment = async (comment: IComment) => {
     await request<void>({
-      endpoint: `/api/v1/feed/comments/${id}`,
+      endpoint: `/api/v1/feed/comments/${comment.id}`,
       method: "DELETE",
-      onSuccess: () => {
-        setComments((prev) => prev.filter((c) => c.id !== id));
-      },
+      onSuccess: () => removeComment(comment),
       onFailure: (error) => {
         console.error(error);
       },
@@ -166,16 +306,7 @@ export function Post({ post, setPosts }: PostProps) {
       endpoint: `/api/v1/feed/comments/${id}`,
       method: "PUT",
       body: JSON.stringify({ content }),
-      onSuccess: (data) => {
-        setComments((prev) =>
-          prev.map((c) => {
-            if (c.id === id) {
-              return data;
-            }
-            return c;
-          })
-        );
-      },
+      onSuccess: (data) => upsertComment(data),
       onFailure: (error) => {
         console.error(error);
       },
@@ -290,23 +421,33 @@ export function Post({ post, setPosts }: PostProps) {
           />
         )}
         <div className={classes.stats}>
-          {likes.length > 0 ? (
+          {likeCount > 0 ? (
             <div className={classes.stat}>
-              <span>{postLiked ? "You " : likes[0].firstName + " " + likes[0].lastName + " "}</span>
-              {likes.length - 1 > 0 ? (
+              {postLiked ? (
+                <>
+                  <span>You </span>
+                  {likeCount - 1 > 0 ? (
+                    <span>
+                      and {likeCount - 1} {likeCount - 1 === 1 ? "other" : "others"}
+                    </span>
+                  ) : null}{" "}
+                  liked this
+                </>
+              ) : (
                 <span>
-                  and {likes.length - 1} {likes.length - 1 === 1 ? "other" : "others"}
+                  {likeCount} {likeCount === 1 ? "like" : "likes"}
                 </span>
-              ) : null}{" "}
-              liked this
+              )}
             </div>
           ) : (
             <div></div>
           )}
 
-          {comments.length > 0 ? (
-            <button className={classes.stat} onClick={() => setShowComments((prev) => !prev)}>
-              <span>{comments.length} comments</span>
+          {commentCount > 0 ? (
+            <button className={classes.stat} onClick={toggleComments}>
+              <span>
+                {commentCount} {commentCount === 1 ? "comment" : "comments"}
+              </span>
             </button>
           ) : (
             <div></div>
@@ -324,9 +465,7 @@ export function Post({ post, setPosts }: PostProps) {
             <span>{postLiked == undefined ? "Loading" : postLiked ? "Liked" : "Like"}</span>
           </button>
           <button
-            onClick={() => {
-              setShowComments((prev) => !prev);
-            }}
+            onClick={toggleComments}
             className={showComments ? classes.active : ""}
           >
             <svg fill="currentColor" xmlns="http://www.w3.org/2000/svg" viewBox="0 0 512 512">
@@ -352,10 +491,18 @@ export function Post({ post, setPosts }: PostProps) {
               <Comment
                 editComment={editComment}
                 deleteComment={deleteComment}
+                replyToComment={replyToComment}
+                loadReplies={loadReplies}
+                replies={replies[comment.id]?.items}
                 key={comment.id}
                 comment={comment}
               />
             ))}
+            {hasMoreComments && (
+              <button className={classes.more} onClick={loadComments}>
+                Show more comments
+              </button>
+            )}
           </div>
         ) : null}
       </div>
@@ -8,10 +8,12 @@ import { useAuthentication } from "../../../authentication/contexts/Authenticati
 import { useWebSocket } from "../../../ws/WebSocketContextProvider.tsx";
 import { LeftSidebar } from "../../components/LeftSidebar/LeftSidebar.tsx";
 import { Madal } from "../../components/Modal/Modal.tsx";
-import { IPost, Post } from "../../components/Post/Post.tsx";
+import { ILikeSummary, IPost, Post } from "../../components/Post/Post.tsx";
 import { RightSidebar } from "../../components/RightSidebar/RightSidebar.tsx";
 import classes from "./Feed.module.scss";
 
+const FEED_PAGE_SIZE = 10;
+
 export function Feed() {
   usePageTitle("Feed");
   const [showPostingModal, setShowPostingModal] = useState(false);
@@ -20,15 +22,32 @@ export function Feed() {
   const navigate = useNavigate();
   const [posts, setPosts] = useState<IPost[]>([]);
   const [error, setError] = useState("");
+  const [hasMore, setHasMore] = useState(false);
+  const [likeSummaries, setLikeSummaries] = useState<Record<number, ILikeSummary>>({});
   const ws = useWebSocket();
 
+  const fetchLikeSummaries = async (page: IPost[]) => {
+    if (page.length === 0) return;
+    await request<ILikeSummary[]>({
+      endpoint: `/api/v1/feed/likes/summary?postIds=${page.map((post) => post.id).join(",")}`,
+      onSuccess: (data) =>
+        setLikeSummaries((summaries) => ({
+          ...summaries,
+          ...Object.fromEntries(data.map((summary) => [summary.postId, summary])),
+        })),
+      onFailure: (error) => setError(error),
+    });
+  };
+
   useEffect(() => {
     const fetchPosts = async () => {
       await request<IPost[]>({
-        endpoint: "/api/v1/feed",
+        endpoint: `/api/v1/feed?size=${FEED_PAGE_SIZE}`,
         onSuccess: (data) => {
           setPosts(data);
+          setHasMore(data.length === FEED_PAGE_SIZE);
           setLoading(false);
+          fetchLikeSummaries(data);
         },
         onFailure: (error) => setError(error),
       });
@@ -36,6 +55,20 @@ export function Feed() {
     fetchPosts();
   }, []);
 
+  const loadMorePosts = async () => {
+    const last = posts[posts.length - 1];
+    if (!last) return;
+    await request<IPost[]>({
+      endpoint: `/api/v1/feed?size=${FEED_PAGE_SIZE}&before=${encodeURIComponent(last.creationDate)}&beforeId=${last.id}`,
+      onSuccess: (data) => {
+        setPosts((posts) => [...posts, ...data]);
+        setHasMore(data.length === FEED_PAGE_SIZE);
+        fetchLikeSummaries(data);
+      },
+      onFailure: (error) => setError(error),
+    });
+  };
+
   useEffect(() => {
     const subscription = ws?.subscribe(`/topic/feed/${user?.id}/post`, (data) => {
       const post = JSON.parse(data.body);
@@ -93,11 +126,22 @@ export function Feed() {
         ) : (
           <div className={classes.feed}>
             {posts.map((post) => (
-              <Post key={post.id} post={post} setPosts={setPosts} />
+              <Post
+                key={post.id}
+                post={post}
+                setPosts={setPosts}
+                likeSummary={likeSummaries[post.id]}
+                batchedLikes
+              />
             ))}
             {posts.length === 0 && (
               <p>Start connecting with poople to build a feed that matters to you.</p>
             )}
+            {hasMore && (
+              <Button outline onClick={loadMorePosts}>
+                Show more posts
+              </Button>
+            )}
           </div>
         )}
       </div>
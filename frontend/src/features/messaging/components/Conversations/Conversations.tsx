@@ -5,7 +5,6 @@ import {
   useAuthentication,
 } from "../../../authentication/contexts/AuthenticationContextProvider";
 import { useWebSocket } from "../../../ws/WebSocketContextProvider";
-import { IMessage } from "../Messages/Messages";
 import classes from "./Conversations.module.scss";
 import { Conversation } from "./components/Conversation/Conversation";
 
@@ -13,7 +12,28 @@ export interface IConversation {
   id: number;
   author: IUser;
   recipient: IUser;
-  messages: IMessage[];
+}
+
+export interface IInboxEntry {
+  conversationId: number;
+  userId: number;
+  firstName: string;
+  lastName: string;
+  position?: string;
+  profilePicture?: string;
+  lastMessageId: number;
+  lastMessageSnippet: string;
+  lastMessageAt: string;
+  unreadCount: number;
+}
+
+const INBOX_PAGE_SIZE = 20;
+
+function byLastMessage(a: IInboxEntry, b: IInboxEntry) {
+  return (
+    new Date(b.lastMessageAt).getTime() - new Date(a.lastMessageAt).getTime() ||
+    b.conversationId - a.conversationId
+  );
 }
 
 // We need an interface starting with "I" instead of a Type to have consistency with the rest of the codebase.
@@ -21,40 +41,60 @@ export interface IConversation {
 interface IConversationsProps extends HTMLAttributes<HTMLDivElement> {}
 
 export function Conversations(props: IConversationsProps) {
-  const [conversations, setConversations] = useState<IConversation[]>([]);
+  const [conversations, setConversations] = useState<IInboxEntry[]>([]);
+  const [hasMore, setHasMore] = useState(false);
   const { user } = useAuthentication();
   const websocketClient = useWebSocket();
 
-  useEffect(() => {
-    request<IConversation[]>({
-      endpoint: "/api/v1/messaging/conversations",
-      onSuccess: (data) => setConversations(data),
+  const loadInbox = async (last?: IInboxEntry) => {
+    const cursor = last
+      ? `&before=${encodeURIComponent(last.lastMessageAt)}&beforeId=${last.conversationId}`
+      : "";
+    await request<IInboxEntry[]>({
+      endpoint: `/api/v1/messaging/inbox?size=${INBOX_PAGE_SIZE}${cursor}`,
+      onSuccess: (data) => {
+        setConversations((prev) =>
+          [
+            ...prev,
+            ...data.filter((c) => !prev.some((p) => p.conversationId === c.conversationId)),
+          ].sort(byLastMessage)
+        );
+        setHasMore(data.length === INBOX_PAGE_SIZE);
+      },
       onFailure: (error) => console.log(error),
     });
+  };
+
+  useEffect(() => {
+    loadInbox();
   }, []);
 
   useEffect(() => {
-    const subscription = websocketClient?.subscribe(
-      `/topic/users/${user?.id}/conversations`,
-      (message) => {
-        const conversation = JSON.parse(message.body);
-        setConversations((prevConversations) => {
-          const index = prevConversations.findIndex((c) => c.id === conversation.id);
-          if (index === -1) {
-            return [conversation, ...prevConversations];
-          }
-          return prevConversations.map((c) => (c.id === conversation.id ? conversation : c));
-        });
-      }
-    );
+    const subscription = websocketClient?.subscribe(`/topic/users/${user?.id}/inbox`, (message) => {
+      const entry: IInboxEntry = JSON.parse(message.body);
+      setConversations((prevConversations) =>
+        [
+          entry,
+          ...prevConversations.filter((c) => c.conversationId !== entry.conversationId),
+        ].sort(byLastMessage)
+      );
+    });
     return () => subscription?.unsubscribe();
   }, [user?.id, websocketClient]);
 
   return (
     <div className={classes.root} {...props}>
       {conversations.map((conversation) => {
-        return <Conversation key={conversation.id} conversation={conversation} />;
+        return <Conversation key={conversation.conversationId} conversation={conversation} />;
       })}
+      {hasMore && (
+        <button
+          className={classes.more}
+          onClick={() => loadInbox(conversations[conversations.length - 1])}
+        >
+          Show more
+        </button>
+      )}
       {conversations.length === 0 && (
         <div
           className={classes.welcome}
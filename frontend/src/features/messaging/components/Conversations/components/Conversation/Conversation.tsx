@@ -1,72 +1,34 @@
-import { useEffect, useState } from "react";
 import { useNavigate, useParams } from "react-router-dom";
-import { useAuthentication } from "../../../../../authentication/contexts/AuthenticationContextProvider";
-import { useWebSocket } from "../../../../../ws/WebSocketContextProvider";
-import { IConversation } from "../../Conversations";
+import { IInboxEntry } from "../../Conversations";
 import classes from "./Conversation.module.scss";
 
 interface ConversationItemProps {
-  conversation: IConversation;
+  conversation: IInboxEntry;
 }
 
-export function Conversation(props: ConversationItemProps) {
-  const { user } = useAuthentication();
+export function Conversation({ conversation }: ConversationItemProps) {
   const navigate = useNavigate();
   const { id } = useParams();
-  const ws = useWebSocket();
-  const [conversation, setConversation] = useState<IConversation>(props.conversation);
-
-  const conversationUserToDisplay =
-    conversation.recipient.id === user?.id ? conversation.author : conversation.recipient;
-  const unreadMessagesCount = conversation.messages.filter(
-    (message) => message.receiver.id === user?.id && !message.isRead
-  ).length;
-
-  useEffect(() => {
-    const subscription = ws?.subscribe(
-      `/topic/conversations/${conversation.id}/messages`,
-      (data) => {
-        const message = JSON.parse(data.body);
-        setConversation((prevConversation) => {
-          const index = prevConversation.messages.findIndex((m) => m.id === message.id);
-          if (index == -1) {
-            return {
-              ...prevConversation,
-              messages: [...prevConversation.messages, message],
-            };
-          }
-
-          return {
-            ...prevConversation,
-            messages: prevConversation.messages.map((m) => (m.id === message.id ? message : m)),
-          };
-        });
-        return () => subscription?.unsubscribe();
-      }
-    );
-  }, [conversation?.id, ws]);
 
   return (
     <button
-      key={conversation.id}
-      className={`${classes.root} ${id && Number(id) === conversation.id ? classes.selected : ""}`}
-      onClick={() => navigate(`/messaging/conversations/${conversation.id}`)}
+      key={conversation.conversationId}
+      className={`${classes.root} ${
+        id && Number(id) === conversation.conversationId ? classes.selected : ""
+      }`}
+      onClick={() => navigate(`/messaging/conversations/${conversation.conversationId}`)}
     >
-      <img
-        className={classes.avatar}
-        src={conversationUserToDisplay.profilePicture || "/avatar.svg"}
-        alt=""
-      />
+      <img className={classes.avatar} src={conversation.profilePicture || "/avatar.svg"} alt="" />
 
-      {unreadMessagesCount > 0 && <div className={classes.unread}>{unreadMessagesCount}</div>}
+      {conversation.unreadCount > 0 && (
+        <div className={classes.unread}>{conversation.unreadCount}</div>
+      )}
 
       <div>
         <div className={classes.name}>
-          {conversationUserToDisplay.firstName} {conversationUserToDisplay.lastName}
-        </div>
-        <div className={classes.content}>
-          {conversation.messages[conversation.messages.length - 1]?.content}
+          {conversation.firstName} {conversation.lastName}
         </div>
+        <div className={classes.content}>{conversation.lastMessageSnippet}</div>
       </div>
     </button>
   );
@@ -1,11 +1,12 @@
+import { useEffect, useRef } from "react";
 import { IUser } from "../../../authentication/contexts/AuthenticationContextProvider";
 import classes from "./Messages.module.scss";
 import { Message } from "./components/Message/Message";
 
 export interface IMessage {
   id: number;
-  sender: IUser;
-  receiver: IUser;
+  senderId: number;
+  receiverId: number;
   content: string;
   isRead: boolean;
   createdAt: string;
@@ -13,15 +14,37 @@ export interface IMessage {
 
 interface IMessagesProps {
   messages: IMessage[];
+  participants: Record<number, IUser>;
   user: IUser | null;
+  hasOlder?: boolean;
+  onLoadOlder?: () => void;
 }
 
-export function Messages({ messages, user }: IMessagesProps) {
+export function Messages({ messages, participants, user, hasOlder, onLoadOlder }: IMessagesProps) {
+  const endRef = useRef<HTMLDivElement>(null);
+  const lastMessageId = messages[messages.length - 1]?.id;
+
+  // Only follow the newest message, loading older ones keeps the scroll position.
+  useEffect(() => {
+    endRef.current?.scrollIntoView();
+  }, [lastMessageId]);
+
   return (
     <div className={classes.root}>
+      {hasOlder && (
+        <button className={classes.older} onClick={onLoadOlder}>
+          Load older messages
+        </button>
+      )}
       {messages.map((message) => (
-        <Message key={message.id} message={message} user={user} />
+        <Message
+          key={message.id}
+          message={message}
+          sender={participants[message.senderId]}
+          user={user}
+        />
       ))}
+      <div ref={endRef} />
     </div>
   );
 }
@@ -1,5 +1,3 @@
-import { useEffect, useRef } from "react";
-import { request } from "../../../../../../utils/api";
 import { IUser } from "../../../../../authentication/contexts/AuthenticationContextProvider";
 import { TimeAgo } from "../../../../../feed/components/TimeAgo/TimeAgo";
 import { IMessage } from "../../Messages";
@@ -7,42 +5,27 @@ import classes from "./Message.module.scss";
 
 interface IMessageProps {
   message: IMessage;
+  sender?: IUser;
   user: IUser | null;
 }
 
-export function Message({ message, user }: IMessageProps) {
-  const messageRef = useRef<HTMLDivElement>(null);
-  useEffect(() => {
-    if (!message.isRead && user?.id === message.receiver.id) {
-      request<void>({
-        endpoint: `/api/v1/messaging/conversations/messages/${message.id}`,
-        method: "PUT",
-        onSuccess: () => {},
-        onFailure: (error) => console.log(error),
-      });
-    }
-  }, [message.id, message.isRead, message.receiver.id, user?.id]);
-
-  useEffect(() => {
-    messageRef.current?.scrollIntoView();
-  }, []);
+export function Message({ message, sender, user }: IMessageProps) {
   return (
     <div
-      ref={messageRef}
       className={`${classes.root} ${
-        message.sender.id === user?.id ? classes.sent : classes.received
+        message.senderId === user?.id ? classes.sent : classes.received
       }`}
     >
       <div className={`${classes.message} `}>
         <div className={classes.top}>
           <img
             className={classes.avatar}
-            src={message.sender.profilePicture || "/avatar.svg"}
-            alt={`${message.sender.firstName} ${message.sender.lastName}`}
+            src={sender?.profilePicture || "/avatar.svg"}
+            alt={`${sender?.firstName} ${sender?.lastName}`}
           />
           <div>
             <div className={classes.name}>
-              {message.sender.firstName} {message.sender.lastName}
+              {sender?.firstName} {sender?.lastName}
             </div>
 
             <TimeAgo date={message.createdAt} className={classes.time} />
@@ -50,7 +33,7 @@ export function Message({ message, user }: IMessageProps) {
         </div>
         <div className={classes.content}>{message.content}</div>
       </div>
-      {message.sender.id == user?.id && (
+      {message.senderId == user?.id && (
         <div className={classes.status}>
           {!message.isRead ? (
             <>
@@ -1,4 +1,4 @@
-import { FormEvent, useEffect, useState } from "react";
+import { FormEvent, useEffect, useRef, useState } from "react";
 import { useNavigate, useParams } from "react-router-dom";
 import { Input } from "../../../../components/Input/Input";
 import { request } from "../../../../utils/api";
@@ -9,48 +9,44 @@ import {
 import { IConnection } from "../../../networking/components/Connection/Connection";
 import { useWebSocket } from "../../../ws/WebSocketContextProvider";
 import { IConversation } from "../../components/Conversations/Conversations";
-import { Messages } from "../../components/Messages/Messages";
+import { IMessage, Messages } from "../../components/Messages/Messages";
 import classes from "./Conversation.module.scss";
+
+const MESSAGES_PAGE_SIZE = 20;
+
+interface IMessageHistory {
+  messages: IMessage[];
+  participants: Record<number, IUser>;
+}
+
+interface IReadReceipt {
+  conversationId: number;
+  readerId: number;
+  upToMessageId: number;
+}
+
+function applyReadReceipt(messages: IMessage[], receipt: IReadReceipt) {
+  return messages.map((m) =>
+    m.receiverId === receipt.readerId && m.id <= receipt.upToMessageId && !m.isRead
+      ? { ...m, isRead: true }
+      : m
+  );
+}
+
 export function Conversation() {
   const [postingMessage, setPostingMessage] = useState<boolean>(false);
   const [content, setContent] = useState<string>("");
   const [suggestingUsers, setSuggestingUsers] = useState<IUser[]>([]);
   const [search, setSearch] = useState<string>("");
   const [slectedUser, setSelectedUser] = useState<IUser | null>(null);
-  const [conversation, setConversation] = useState<IConversation | null>(null);
-  const [conversations, setConversations] = useState<IConversation[]>([]);
+  const [conversation, setConversation] = useState<IMessageHistory | null>(null);
+  const [hasOlderMessages, setHasOlderMessages] = useState(false);
   const websocketClient = useWebSocket();
   const { id } = useParams();
   const navigate = useNavigate();
   const creatingNewConversation = id === "new";
   const { user } = useAuthentication();
 
-  useEffect(() => {
-    request<IConversation[]>({
-      endpoint: "/api/v1/messaging/conversations",
-      onSuccess: (data) => setConversations(data),
-      onFailure: (error) => console.log(error),
-    });
-  }, []);
-
-  useEffect(() => {
-    const subscription = websocketClient?.subscribe(
-      `/topic/users/${user?.id}/conversations`,
-      (message) => {
-        const conversation = JSON.parse(message.body);
-        console.log(conversation);
-        setConversations((prevConversations) => {
-          const index = prevConversations.findIndex((c) => c.id === conversation.id);
-          if (index === -1) {
-            return [conversation, ...prevConversations];
-          }
-          return prevConversations.map((c) => (c.id === conversation.id ? conversation : c));
-        });
-      }
-    );
-    return () => subscription?.unsubscribe();
-  }, [user?.id, websocketClient]);
-
   useEffect(() => {
     if (id == "new") {
       setConversation(null);
@@ -61,17 +57,84 @@ export function Conversation() {
         onFailure: (error) => console.log(error),
       });
     } else {
-      request<IConversation>({
-        endpoint: `/api/v1/messaging/conversations/${id}`,
-        onSuccess: (data) => setConversation(data),
+      request<IMessageHistory>({
+        endpoint: `/api/v1/messaging/conversations/${id}/messages?size=${MESSAGES_PAGE_SIZE}`,
+        onSuccess: (data) => {
+          setConversation({ ...data, messages: [...data.messages].reverse() });
+          setHasOlderMessages(data.messages.length === MESSAGES_PAGE_SIZE);
+        },
         onFailure: () => navigate("/messaging"),
       });
     }
   }, [id, navigate]);
 
+  async function loadOlderMessages() {
+    const oldest = conversation?.messages[0];
+    if (!oldest) return;
+    await request<IMessageHistory>({
+      endpoint: `/api/v1/messaging/conversations/${id}/messages?size=${MESSAGES_PAGE_SIZE}&before=${encodeURIComponent(
+        oldest.createdAt
+      )}&beforeId=${oldest.id}`,
+      onSuccess: (data) => {
+        setConversation((prevConversation) => {
+          if (!prevConversation) return null;
+          const older = data.messages.filter(
+            (m) => !prevConversation.messages.some((p) => p.id === m.id)
+          );
+          return {
+            ...prevConversation,
+            messages: [...older.reverse(), ...prevConversation.messages],
+          };
+        });
+        setHasOlderMessages(data.messages.length === MESSAGES_PAGE_SIZE);
+      },
+      onFailure: (error) => console.log(error),
+    });
+  }
+
+  const conversationId = creatingNewConversation ? null : id;
+  const readUpTo = useRef(0);
+
+  // One request marks everything received so far as read, however many messages are unread.
+  const lastUnreadId = conversation?.messages
+    .filter((m) => m.receiverId === user?.id && !m.isRead)
+    .reduce((max, m) => Math.max(max, m.id), 0);
+
+  useEffect(() => {
+    readUpTo.current = 0;
+  }, [conversationId]);
+
+  useEffect(() => {
+    if (!conversationId || !lastUnreadId || lastUnreadId <= readUpTo.current) return;
+    readUpTo.current = lastUnreadId;
+    request<void>({
+      endpoint: `/api/v1/messaging/conversations/${conversationId}/read?upTo=${lastUnreadId}`,
+      method: "PUT",
+      onSuccess: () => {},
+      onFailure: (error) => console.log(error),
+    });
+  }, [conversationId, lastUnreadId]);
+
   useEffect(() => {
+    if (!conversationId) return;
     const subscription = websocketClient?.subscribe(
-      `/topic/conversations/${conversation?.id}/messages`,
+      `/topic/conversations/${conversationId}/reads`,
+      (data) => {
+        const receipt: IReadReceipt = JSON.parse(data.body);
+        setConversation((prevConversation) =>
+          prevConversation
+            ? { ...prevConversation, messages: applyReadReceipt(prevConversation.messages, receipt) }
+            : null
+        );
+      }
+    );
+    return () => subscription?.unsubscribe();
+  }, [conversationId, websocketClient]);
+
+  useEffect(() => {
+    if (!conversationId) return;
+    const subscription = websocketClient?.subscribe(
+      `/topic/conversations/${conversationId}/messages`,
       (data) => {
         const message = JSON.parse(data.body);
 
@@ -92,19 +155,20 @@ export function Conversation() {
       }
     );
     return () => subscription?.unsubscribe();
-  }, [conversation?.id, websocketClient]);
+  }, [conversationId, websocketClient]);
+
+  const conversationUserToDisplay = Object.values(conversation?.participants ?? {}).find(
+    (participant) => participant.id !== user?.id
+  );
 
   async function addMessageToConversation(e: FormEvent<HTMLFormElement>) {
     e.preventDefault();
     setPostingMessage(true);
     await request<void>({
-      endpoint: `/api/v1/messaging/conversations/${conversation?.id}/messages`,
+      endpoint: `/api/v1/messaging/conversations/${conversationId}/messages`,
       method: "POST",
       body: JSON.stringify({
-        receiverId:
-          conversation?.recipient.id == user?.id
-            ? conversation?.author.id
-            : conversation?.recipient.id,
+        receiverId: conversationUserToDisplay?.id,
         content,
       }),
       onSuccess: () => {},
@@ -130,8 +194,6 @@ export function Conversation() {
     });
   }
 
-  const conversationUserToDisplay =
-    conversation?.recipient.id === user?.id ? conversation?.author : conversation?.recipient;
   return (
     <div className={`${classes.root} ${creatingNewConversation ? classes.new : ""}`}>
       {(conversation || creatingNewConversation) && (
@@ -154,9 +216,7 @@ export function Conversation() {
                 <div className={classes.name}>
                   {conversationUserToDisplay?.firstName} {conversationUserToDisplay?.lastName}
                 </div>
-                <div className={classes.title}>
-                  {conversationUserToDisplay?.position} at {conversationUserToDisplay?.company}
-                </div>
+                <div className={classes.title}>{conversationUserToDisplay?.position}</div>
               </div>
             </div>
           )}
@@ -206,16 +266,14 @@ export function Conversation() {
                     .map((user) => (
                       <button
                         key={user.id}
-                        onClick={() => {
-                          const conversation = conversations.find(
-                            (c) => c.recipient.id === user.id || c.author.id === user.id
-                          );
-                          if (conversation) {
-                            navigate(`/messaging/conversations/${conversation.id}`);
-                          } else {
-                            setSelectedUser(user);
-                          }
-                        }}
+                        onClick={() =>
+                          request<IConversation>({
+                            endpoint: `/api/v1/messaging/conversations/with/${user.id}`,
+                            onSuccess: (conversation) =>
+                              navigate(`/messaging/conversations/${conversation.id}`),
+                            onFailure: () => setSelectedUser(user),
+                          })
+                        }
                       >
                         <img
                           className={classes.avatar}
@@ -241,7 +299,15 @@ export function Conversation() {
               )}
             </form>
           )}
-          {conversation && <Messages messages={conversation.messages} user={user} />}
+          {conversation && (
+            <Messages
+              messages={conversation.messages}
+              participants={conversation.participants}
+              user={user}
+              hasOlder={hasOlderMessages}
+              onLoadOlder={loadOlderMessages}
+            />
+          )}
           <form
             className={classes.form}
             onSubmit={async (e) => {
@@ -9,14 +9,23 @@ import {
   useAuthentication,
 } from "../../../authentication/contexts/AuthenticationContextProvider";
 import { useWebSocket } from "../../../ws/WebSocketContextProvider";
-import { IConnection } from "../../components/Connection/Connection";
+import { IConnection, Status } from "../../components/Connection/Connection";
 import { Title } from "../../components/Title/Title";
 import classes from "./Network.module.scss";
 
+interface IConnectionCounts {
+  accepted: number;
+  pendingReceived: number;
+  pendingSent: number;
+}
+
 export function Network() {
   usePageTitle("Network");
-  const [connections, setConnections] = useState<IConnection[]>([]);
-  const [invitations, setInvitations] = useState<IConnection[]>([]);
+  const [counts, setCounts] = useState<IConnectionCounts>({
+    accepted: 0,
+    pendingReceived: 0,
+    pendingSent: 0,
+  });
   const [suggestions, setSuggestions] = useState<IUser[]>([]);
   const [suggestionsLoading, setSuggestionsLoading] = useState(true);
   const navigate = useNavigate();
@@ -24,17 +33,9 @@ export function Network() {
   const { user } = useAuthentication();
 
   useEffect(() => {
-    request<IConnection[]>({
-      endpoint: "/api/v1/networking/connections",
-      onSuccess: (data) => setConnections(data),
-      onFailure: (error) => console.log(error),
-    });
-  }, []);
-
-  useEffect(() => {
-    request<IConnection[]>({
-      endpoint: "/api/v1/networking/connections?status=PENDING",
-      onSuccess: (data) => setInvitations(data),
+    request<IConnectionCounts>({
+      endpoint: "/api/v1/networking/connections/counts",
+      onSuccess: (data) => setCounts(data),
       onFailure: (error) => console.log(error),
     });
   }, []);
@@ -49,8 +50,13 @@ export function Network() {
 
   useEffect(() => {
     const subscription = ws?.subscribe("/topic/users/" + user?.id + "/connections/new", (data) => {
-      const connection = JSON.parse(data.body);
-      setInvitations((connections) => [connection, ...connections]);
+      const connection: IConnection = JSON.parse(data.body);
+      const sent = connection.author.id === user?.id;
+      setCounts((counts) => ({
+        ...counts,
+        pendingReceived: counts.pendingReceived + (sent ? 0 : 1),
+        pendingSent: counts.pendingSent + (sent ? 1 : 0),
+      }));
       setSuggestions((suggestions) =>
         suggestions.filter((s) => s.id !== connection.author.id && s.id !== connection.recipient.id)
       );
@@ -63,9 +69,13 @@ export function Network() {
     const subscription = ws?.subscribe(
       "/topic/users/" + user?.id + "/connections/accepted",
       (data) => {
-        const connection = JSON.parse(data.body);
-        setConnections((connections) => [connection, ...connections]);
-        setInvitations((invitations) => invitations.filter((c) => c.id !== connection.id));
+        const connection: IConnection = JSON.parse(data.body);
+        const sent = connection.author.id === user?.id;
+        setCounts((counts) => ({
+          accepted: counts.accepted + 1,
+          pendingReceived: counts.pendingReceived - (sent ? 0 : 1),
+          pendingSent: counts.pendingSent - (sent ? 1 : 0),
+        }));
       }
     );
 
@@ -76,9 +86,17 @@ export function Network() {
     const subscription = ws?.subscribe(
       "/topic/users/" + user?.id + "/connections/remove",
       (data) => {
-        const connection = JSON.parse(data.body);
-        setConnections((connections) => connections.filter((c) => c.id !== connection.id));
-        setInvitations((invitations) => invitations.filter((c) => c.id !== connection.id));
+        const connection: IConnection = JSON.parse(data.body);
+        const sent = connection.author.id === user?.id;
+        setCounts((counts) =>
+          connection.status === Status.ACCEPTED
+            ? { ...counts, accepted: counts.accepted - 1 }
+            : {
+                ...counts,
+                pendingReceived: counts.pendingReceived - (sent ? 0 : 1),
+                pendingSent: counts.pendingSent - (sent ? 1 : 0),
+              }
+        );
       }
     );
 
@@ -95,7 +113,7 @@ export function Network() {
               <path d="M15 13.25V21H9v-7.75A2.25 2.25 0 0 1 11.25 11h1.5A2.25 2.25 0 0 1 15 13.25m5-.25h-1a2 2 0 0 0-2 2v6h5v-6a2 2 0 0 0-2-2M12 3a3 3 0 1 0 3 3 3 3 0 0 0-3-3m7.5 8A2.5 2.5 0 1 0 17 8.5a2.5 2.5 0 0 0 2.5 2.5M5 13H4a2 2 0 0 0-2 2v6h5v-6a2 2 0 0 0-2-2m-.5-7A2.5 2.5 0 1 0 7 8.5 2.5 2.5 0 0 0 4.5 6"></path>
             </svg>
             <span>Invitations</span>
-            <span className={classes.stat}>{invitations.length}</span>
+            <span className={classes.stat}>{counts.pendingReceived + counts.pendingSent}</span>
           </NavLink>
           <NavLink to="connections" className={({ isActive }) => (isActive ? classes.active : "")}>
             <svg
@@ -107,7 +125,7 @@ export function Network() {
               <path d="M12 16v6H3v-6a3 3 0 013-3h3a3 3 0 013 3zm5.5-3A3.5 3.5 0 1014 9.5a3.5 3.5 0 003.5 3.5zm1 2h-2a2.5 2.5 0 00-2.5 2.5V22h7v-4.5a2.5 2.5 0 00-2.5-2.5zM7.5 2A4.5 4.5 0 1012 6.5 4.49 4.49 0 007.5 2z"></path>
             </svg>
             <span>Connections</span>
-            <span className={classes.stat}>{connections.length}</span>
+            <span className={classes.stat}>{counts.accepted}</span>
           </NavLink>
         </div>
       </div>
@@ -6,6 +6,14 @@ import { IUser } from "../../../authentication/contexts/AuthenticationContextPro
 import { IConnection } from "../../../networking/components/Connection/Connection";
 import { ProfileAndCoverPictureUpdateModal } from "../ProfileAndCoverPictureUpdateModal/ProfileAndCoverPictureUpdateModal";
 import classes from "./Header.module.scss";
+interface IConnectionDegree {
+  degree: number;
+  mutualCount: number;
+  mutualConnections: { id: number; firstName: string; lastName: string }[];
+}
+
+const DEGREE_LABELS = ["", "1st", "2nd", "3rd"];
+
 interface ITopProps {
   user: IUser | null;
   authUser: IUser | null;
@@ -25,6 +33,7 @@ export function Header({ user, authUser, onUpdate }: ITopProps) {
   });
   const [connexions, setConnections] = useState<IConnection[]>([]);
   const [invitations, setInvitations] = useState<IConnection[]>([]);
+  const [relationship, setRelationship] = useState<IConnectionDegree | null>(null);
   const connection =
     connexions.find((c) => c.recipient.id === user?.id || c.author.id === user?.id) ||
     invitations.find((c) => c.recipient.id === user?.id || c.author.id === user?.id);
@@ -58,6 +67,15 @@ export function Header({ user, authUser, onUpdate }: ITopProps) {
     });
   }, [user?.id]);
 
+  useEffect(() => {
+    if (!user?.id || user.id === authUser?.id) return;
+    request<IConnectionDegree>({
+      endpoint: "/api/v1/networking/relationship/" + user.id,
+      onSuccess: (data) => setRelationship(data),
+      onFailure: (error) => console.log(error),
+    });
+  }, [user?.id, authUser?.id]);
+
   async function updateInfo() {
     await request<IUser>({
       endpoint: `/api/v1/authentication/profile/${user?.id}/info?firstName=${info.firstName}&lastName=${info.lastName}&position=${info.position}&company=${info.company}&location=${info.location}`,
@@ -213,9 +231,26 @@ export function Header({ user, authUser, onUpdate }: ITopProps) {
         <div className={classes.info}>
           {!editingInfo ? (
             <div>
-              <div className={classes.name}>{user?.firstName + " " + user?.lastName}</div>
+              <div className={classes.name}>
+                {user?.firstName + " " + user?.lastName}
+                {relationship && DEGREE_LABELS[relationship.degree] && (
+                  <span className={classes.degree}> · {DEGREE_LABELS[relationship.degree]}</span>
+                )}
+              </div>
               <div className={classes.title}>{user?.position + " at " + user?.company}</div>
               <div className={classes.location}>{user?.location}</div>
+              {relationship && relationship.mutualCount > 0 && (
+                <div className={classes.mutual}>
+                  {relationship.mutualConnections
+                    .map((c) => c.firstName + " " + c.lastName)
+                    .join(", ")}
+                  {relationship.mutualCount > relationship.mutualConnections.length
+                    ? ` and ${relationship.mutualCount - relationship.mutualConnections.length} other mutual connections`
+                    : relationship.mutualCount === 1
+                    ? " is a mutual connection"
+                    : " are mutual connections"}
+                </div>
+              )}
 
               {user?.id !== authUser?.id && (
                 <>